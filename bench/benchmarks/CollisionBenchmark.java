@@ -0,0 +1,98 @@
+package benchmarks;
+
+import engine.ProjectileBuffer;
+import engine.World;
+import entities.Bullet;
+import entities.Enemy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision detection at different populations: the naive all-pairs box test against the
+ * grid-backed pass the World runs every tick
+ * Enemies, player bullets and enemy bullets are scattered over the playfield with a fixed
+ * seed, so every run sees the same layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int population;
+
+    private Enemy[] enemyObjects;
+    private Bullet[] bulletObjects;
+    private final World layout = new World(42);
+
+    @Setup(Level.Trial)
+    public void populate() {
+        SplittableRandom random = new SplittableRandom(42);
+        enemyObjects = new Enemy[population];
+        bulletObjects = new Bullet[population];
+        ProjectileBuffer projectiles = layout.getProjectiles();
+        for (int i = 0; i < population; i++) {
+            enemyObjects[i] = new Enemy(random.nextDouble(World.WIDTH - 60), random.nextDouble(World.HEIGHT - 40), 1);
+            bulletObjects[i] = new Bullet(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT), 10, 0);
+            layout.getEnemies().spawnEnemy(enemyObjects[i]);
+            projectiles.spawn(bulletObjects[i].getX(), bulletObjects[i].getY(), 10, 0, 1, ProjectileBuffer.OWNER_PLAYER);
+            // Enemy fire for the player scan to test; a few land on the player
+            projectiles.spawn(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT), -6, 0, 1,
+                    ProjectileBuffer.OWNER_ENEMY);
+        }
+    }
+
+    /**
+     * Working world for the full pass, which destroys what it hits; restored from a snapshot
+     * of the populated layout before every invocation
+     */
+    @State(Scope.Thread)
+    public static class Pass {
+        private final World world = new World(42);
+        private byte[] snapshot;
+
+        @Setup(Level.Trial)
+        public void capture(CollisionBenchmark benchmark) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            benchmark.layout.writeState(new DataOutputStream(bytes));
+            snapshot = bytes.toByteArray();
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() throws IOException {
+            world.readState(new DataInputStream(new ByteArrayInputStream(snapshot)));
+        }
+    }
+
+    /**
+     * Every bullet against every enemy with GameObject.collidesWith, as before the spatial grid
+     */
+    @Benchmark
+    public int collidesWithAllPairs() {
+        int hits = 0;
+        for (Bullet bullet : bulletObjects) {
+            for (Enemy enemy : enemyObjects) {
+                if (bullet.collidesWith(enemy)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * World.checkCollisions itself: player bullets vs enemies, enemy bullets vs the player,
+     * compaction and contact damage
+     * @return pairs tested so far, so the pass cannot be optimized away
+     */
+    @Benchmark
+    public long checkCollisions(Pass pass) {
+        pass.world.checkCollisions();
+        return pass.world.getPairsTested();
+    }
+}
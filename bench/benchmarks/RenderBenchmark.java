@@ -0,0 +1,73 @@
+package benchmarks;
+
+import engine.ProjectileBuffer;
+import engine.World;
+import entities.Enemy;
+import enums.QualityTier;
+import graphics.BackgroundStarField;
+import graphics.QualityGovernor;
+import org.openjdk.jmh.annotations.*;
+import ui.SceneRenderer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full gameplay frame, as the game panel draws it, rendered into an offscreen image
+ * The scene holds the given number of enemies and as many projectiles, half of them enemy fire.
+ * Runs at a pinned quality tier so the governor cannot change the work between iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int population;
+
+    @Param({"ULTRA", "LOW"})
+    public QualityTier tier;
+
+    private World world;
+    private SceneRenderer sceneRenderer;
+    private BufferedImage frame;
+    private Graphics2D g2d;
+    private double seconds;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        QualityGovernor.getInstance().setPinnedTier(tier);
+
+        world = new World(42);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < population; i++) {
+            world.getEnemies().spawnEnemy(new Enemy(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT - 40),
+                    1 + random.nextInt(Enemy.LEVEL_COLOR_COUNT)));
+            world.getProjectiles().spawn(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT),
+                    i % 2 == 0 ? 10 : -5, 0, 1, i % 2 == 0 ? ProjectileBuffer.OWNER_PLAYER : ProjectileBuffer.OWNER_ENEMY);
+        }
+
+        sceneRenderer = new SceneRenderer(World.WIDTH, World.HEIGHT,
+                new BackgroundStarField(120, world.getRandom().effects()));
+        frame = new BufferedImage(World.WIDTH, World.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = frame.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void dispose() {
+        g2d.dispose();
+        QualityGovernor.getInstance().setPinnedTier(null);
+    }
+
+    @Benchmark
+    public BufferedImage renderFrame() {
+        // Advance the background a tick per frame so its scroll offsets vary as in play
+        seconds += 1.0 / 60;
+        sceneRenderer.draw(g2d, world, 0.5, seconds, null);
+        return frame;
+    }
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import ecs.EntityStore;
+import ecs.MovementSystem;
+import engine.ProjectileBuffer;
+import engine.RandomStream;
+import engine.World;
+import entities.Bullet;
+import entities.Enemy;
+import managers.GameManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick movement of enemies and bullets, as GameObject update loops and as the
+ * entity-store systems the World uses, plus enemy spawning by the GameManager
+ * Positions drift during a run; enemies are clamped to the playfield and bullets simply
+ * fly on, which costs the same per update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SimulationBenchmark {
+    private static final int SPAWN_LEVEL = 5;   // fastest spawn rate of a level cycle
+    private static final int SPAWN_TICKS = 600;  // long enough to spawn the level's whole wave
+
+    @Param({"10", "100", "1000", "10000"})
+    public int population;
+
+    private Enemy[] enemyObjects;
+    private Bullet[] bulletObjects;
+    private final EntityStore enemies = new EntityStore();
+    private final ProjectileBuffer projectiles = new ProjectileBuffer(64);
+    private final MovementSystem movementSystem = new MovementSystem(World.HEIGHT);
+
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        enemyObjects = new Enemy[population];
+        bulletObjects = new Bullet[population];
+        for (int i = 0; i < population; i++) {
+            enemyObjects[i] = new Enemy(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT - 40), 1);
+            bulletObjects[i] = new Bullet(random.nextDouble(World.WIDTH), random.nextDouble(World.HEIGHT), 10, 0);
+            enemies.spawnEnemy(enemyObjects[i]);
+            projectiles.spawn(bulletObjects[i].getX(), bulletObjects[i].getY(), 10, 0, 1, ProjectileBuffer.OWNER_PLAYER);
+        }
+    }
+
+    /**
+     * A GameManager at the start of a level, reset before every invocation, with the population
+     * already on screen so the level never completes
+     */
+    @State(Scope.Thread)
+    public static class Spawning {
+        private final EntityStore enemies = new EntityStore();
+        private GameManager gameManager;
+        private byte[] snapshot;
+
+        @Setup(Level.Trial)
+        public void create() throws IOException {
+            // Restored from a snapshot per invocation; constructing a manager logs the level settings
+            gameManager = new GameManager(SPAWN_LEVEL, new RandomStream(42));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            gameManager.writeState(new DataOutputStream(bytes));
+            snapshot = bytes.toByteArray();
+        }
+
+        @Setup(Level.Invocation)
+        public void reset(SimulationBenchmark benchmark) throws IOException {
+            enemies.clear();
+            for (Enemy enemy : benchmark.enemyObjects) {
+                enemies.spawnEnemy(enemy);
+            }
+            gameManager.readState(new DataInputStream(new ByteArrayInputStream(snapshot)), new RandomStream(42));
+        }
+    }
+
+    @Benchmark
+    public void enemyUpdateLoop() {
+        for (Enemy enemy : enemyObjects) {
+            enemy.update();
+        }
+    }
+
+    @Benchmark
+    public void bulletUpdateLoop() {
+        for (Bullet bullet : bulletObjects) {
+            bullet.update();
+        }
+    }
+
+    @Benchmark
+    public void enemyMovementSystem() {
+        movementSystem.update(enemies);
+    }
+
+    @Benchmark
+    public void projectileIntegrate() {
+        projectiles.integrate();
+    }
+
+    /**
+     * Enough GameManager ticks to spawn one full wave
+     */
+    @Benchmark
+    public int gameManagerSpawning(Spawning spawning) {
+        for (int tick = 0; tick < SPAWN_TICKS; tick++) {
+            spawning.gameManager.update(spawning.enemies, World.WIDTH, World.HEIGHT);
+        }
+        return spawning.enemies.size();
+    }
+}
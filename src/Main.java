@@ -1,9 +1,12 @@
+import managers.AssetLoader;
+import managers.AssetRegistry;
 import managers.SoundManager;
 import ui.GamePanel;
 import ui.MainMenu;
 import ui.OptionsMenu;
 import ui.GameOverPanel;
 import ui.LevelTransitionPanel;
+import ui.LoadingPanel;
 
 import javax.swing.*;
 import java.awt.*;
@@ -22,6 +25,7 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
     private JPanel mainPanel;
 
     // UI Panels
+    private LoadingPanel loadingPanel;
     private MainMenu mainMenu;
     private OptionsMenu optionsMenu;
     private GamePanel gamePanel;
@@ -31,7 +35,11 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
     // Audio manager
     private SoundManager soundManager;
 
+    // Decodes sounds and sprites in the background while the loading screen shows
+    private AssetLoader assetLoader;
+
     // Panel identifiers
+    private static final String LOADING_PANEL = "LOADING_PANEL";
     private static final String MAIN_MENU = "MAIN_MENU";
     private static final String OPTIONS_MENU = "OPTIONS_MENU";
     private static final String GAME_PANEL = "GAME_PANEL";
@@ -43,24 +51,52 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(false);
 
-        // Initialize audio system
+        // Initialize audio system; sounds are decoded by the asset loader
         soundManager = SoundManager.getInstance();
+        assetLoader = new AssetLoader(soundManager, AssetRegistry.getInstance());
 
         initializeComponents();
         setupFrame();
 
-        // Start with main menu
-        showMainMenu();
+        // Show the loading screen while assets decode, then the main menu
+        assetLoader.start();
+        loadingPanel.start();
+        assetLoader.whenReady(this::onAssetsLoaded);
     }
 
     /**
-     * Initialize all UI components
+     * Set up the card layout with just the loading screen; the rest waits for the assets
      */
     private void initializeComponents() {
         // Setup card layout for panel switching
         cardLayout = new CardLayout();
         mainPanel = new JPanel(cardLayout);
 
+        loadingPanel = new LoadingPanel(assetLoader);
+        mainPanel.add(loadingPanel, LOADING_PANEL);
+
+        add(mainPanel);
+    }
+
+    /**
+     * Every asset is decoded: build the game screens and go to the main menu
+     */
+    private void onAssetsLoaded() {
+        loadingPanel.stop();
+        System.out.printf("Loaded %d assets in %.1f ms on %d threads%n", assetLoader.getTotalCount(),
+                assetLoader.getElapsedNanos() / 1_000_000.0, assetLoader.getThreadCount());
+        System.out.print(AssetRegistry.getInstance().getReport());
+
+        initializeScreens();
+        showMainMenu();
+        mainPanel.remove(loadingPanel);
+        loadingPanel = null;
+    }
+
+    /**
+     * Initialize the menu and game screens
+     */
+    private void initializeScreens() {
         // Initialize panels
         mainMenu = new MainMenu();
         mainMenu.setMenuActionListener(this);
@@ -83,8 +119,6 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
         mainPanel.add(gamePanel, GAME_PANEL);
         mainPanel.add(gameOverPanel, GAME_OVER_PANEL);
         mainPanel.add(levelTransitionPanel, LEVEL_TRANSITION_PANEL);
-
-        add(mainPanel);
     }
 
     /**
@@ -116,6 +150,11 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
      * Show game panel and start the game
      */
     private void showGamePanel() {
+        // Readiness barrier: gameplay never starts on half-loaded sprites and sounds
+        if (!assetLoader.isReady()) {
+            assetLoader.whenReady(this::showGamePanel);
+            return;
+        }
         cardLayout.show(mainPanel, GAME_PANEL);
         gamePanel.requestFocusInWindow();
         gamePanel.startGame();
@@ -208,6 +247,9 @@ public class Main extends JFrame implements MainMenu.MenuActionListener,
      * Clean up resources before shutdown
      */
     private void cleanup() {
+        if (loadingPanel != null) {
+            loadingPanel.stop();
+        }
         if (mainMenu != null) {
             mainMenu.cleanup();
         }
@@ -0,0 +1,21 @@
+package ecs;
+
+/**
+ * Entity archetypes and how the original entity classes map onto them
+ * PLAYER: a single entity, kept as the entities.Player object
+ * ENEMY: entities.Enemy, stored in EntityStore columns
+ * PLAYER_BULLET / ENEMY_BULLET: entities.Bullet / EnemyBullet, stored in engine.ProjectileBuffer
+ */
+public enum Archetype {
+    PLAYER,
+    ENEMY,
+    PLAYER_BULLET,
+    ENEMY_BULLET;
+
+    /**
+     * Sprite id used by the render system for this archetype
+     */
+    public int getSprite() {
+        return ordinal();
+    }
+}
@@ -0,0 +1,187 @@
+package ecs;
+
+import engine.IntList;
+import engine.ProjectileBuffer;
+import engine.SpatialGrid;
+import entities.GameObject;
+
+/**
+ * Resolves projectile and contact collisions against entities in the store
+ * Broad phase through a uniform grid, narrow phase with the same box test as GameObject.collidesWith
+ */
+public class CollisionSystem {
+    private static final double GRID_CELL_SIZE = 64;
+    private static final int INITIAL_SCRATCH_CAPACITY = 128;
+
+    /**
+     * Called for each entity destroyed by a projectile, before the store is compacted
+     */
+    public interface HitListener {
+        void onEntityHit(EntityStore store, int slot);
+    }
+
+    private final SpatialGrid grid;
+    private int[] candidates;
+    private long pairsTested = 0;
+
+    public CollisionSystem(double fieldWidth, double fieldHeight) {
+        grid = new SpatialGrid(fieldWidth, fieldHeight, GRID_CELL_SIZE);
+        candidates = new int[INITIAL_SCRATCH_CAPACITY];
+    }
+
+    /**
+     * Bucket every entity into the grid; grid indices equal store slots
+     */
+    public void rebuild(EntityStore store) {
+        grid.clear();
+        for (int i = 0; i < store.size(); i++) {
+            grid.insert(store.x[i], store.y[i], store.width[i], store.height[i]);
+        }
+        if (candidates.length < store.size()) {
+            candidates = new int[Math.max(store.size(), candidates.length * 2)];
+        }
+    }
+
+    /**
+     * Each projectile of the owner hits the first live entity in slot order; both are destroyed
+     * Call rebuild() first. Destroyed entities stay in the store until compact().
+     * @return number of entities destroyed
+     */
+    public int resolveProjectileHits(EntityStore store, ProjectileBuffer projectiles, int owner, HitListener listener) {
+        int kills = 0;
+        int projectileCount = projectiles.size();
+        for (int p = 0; p < projectileCount; p++) {
+            if (projectiles.getOwner(p) != owner || projectiles.isDead(p)) continue;
+
+            double bx = projectiles.getX(p);
+            double by = projectiles.getY(p);
+            int count = grid.query(bx, by, ProjectileBuffer.WIDTH, ProjectileBuffer.HEIGHT, candidates);
+            int hit = -1;
+            for (int i = 0; i < count; i++) {
+                int slot = candidates[i];
+                if (!store.dead[slot] && (hit == -1 || slot < hit)) {
+                    pairsTested++;
+                    if (store.intersects(slot, bx, by, ProjectileBuffer.WIDTH, ProjectileBuffer.HEIGHT)) {
+                        hit = slot;
+                    }
+                }
+            }
+            if (hit != -1) {
+                projectiles.kill(p);
+                store.destroy(hit);
+                kills++;
+                if (listener != null) {
+                    listener.onEntityHit(store, hit);
+                }
+            }
+        }
+        return kills;
+    }
+
+    /**
+     * Read-only half of resolveProjectileHits for parallel workers: record every overlapping
+     * (projectile, slot) pair for projectiles in [from, to). Slots of one projectile are appended
+     * in ascending order, so applying the pairs in projectile order reproduces the sequential result.
+     * @param cursor worker-owned grid query state
+     * @param scratch worker-owned buffer at least as long as the store
+     * @return number of narrow-phase tests performed
+     */
+    public long collectProjectileHits(EntityStore store, ProjectileBuffer projectiles, int owner, int from, int to,
+                                      SpatialGrid.Cursor cursor, int[] scratch, IntList pairsOut) {
+        long tests = 0;
+        for (int p = from; p < to; p++) {
+            if (projectiles.getOwner(p) != owner || projectiles.isDead(p)) continue;
+
+            double bx = projectiles.getX(p);
+            double by = projectiles.getY(p);
+            int count = grid.query(cursor, bx, by, ProjectileBuffer.WIDTH, ProjectileBuffer.HEIGHT, scratch);
+
+            // Keep only real overlaps at the front of the scratch buffer
+            int hits = 0;
+            for (int i = 0; i < count; i++) {
+                int slot = scratch[i];
+                if (store.dead[slot]) continue;
+                tests++;
+                if (store.intersects(slot, bx, by, ProjectileBuffer.WIDTH, ProjectileBuffer.HEIGHT)) {
+                    scratch[hits++] = slot;
+                }
+            }
+
+            // Insertion sort: hit lists are almost always one or two entries long
+            for (int i = 1; i < hits; i++) {
+                int slot = scratch[i];
+                int j = i - 1;
+                while (j >= 0 && scratch[j] > slot) {
+                    scratch[j + 1] = scratch[j];
+                    j--;
+                }
+                scratch[j + 1] = slot;
+            }
+
+            for (int i = 0; i < hits; i++) {
+                pairsOut.add(p);
+                pairsOut.add(scratch[i]);
+            }
+        }
+        return tests;
+    }
+
+    /**
+     * Apply pairs gathered by collectProjectileHits; call once per worker buffer in range order
+     * @return number of entities destroyed
+     */
+    public int applyProjectileHits(EntityStore store, ProjectileBuffer projectiles, IntList pairs, HitListener listener) {
+        int kills = 0;
+        for (int i = 0; i < pairs.size(); i += 2) {
+            int p = pairs.get(i);
+            int slot = pairs.get(i + 1);
+            if (projectiles.isDead(p) || store.dead[slot]) continue;
+
+            projectiles.kill(p);
+            store.destroy(slot);
+            kills++;
+            if (listener != null) {
+                listener.onEntityHit(store, slot);
+            }
+        }
+        return kills;
+    }
+
+    /**
+     * Grow a worker scratch buffer so it can hold every entity of the store
+     */
+    public static int[] ensureScratch(int[] scratch, EntityStore store) {
+        if (scratch == null || scratch.length < store.size()) {
+            return new int[Math.max(INITIAL_SCRATCH_CAPACITY, store.size() * 2)];
+        }
+        return scratch;
+    }
+
+    public void addPairsTested(long tests) {
+        pairsTested += tests;
+    }
+
+    /**
+     * Count live entities overlapping the target. Call rebuild() first.
+     */
+    public int countContacts(EntityStore store, GameObject target) {
+        int contacts = 0;
+        int count = grid.query(target, candidates);
+        for (int i = 0; i < count; i++) {
+            int slot = candidates[i];
+            if (store.dead[slot]) continue;
+            pairsTested++;
+            if (target.intersects(store.x[slot], store.y[slot], store.width[slot], store.height[slot])) {
+                contacts++;
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Total narrow-phase tests performed
+     */
+    public long getPairsTested() {
+        return pairsTested;
+    }
+}
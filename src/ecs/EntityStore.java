@@ -0,0 +1,287 @@
+package ecs;
+
+import entities.Enemy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Dense component storage for entities
+ * Every component is a primitive column indexed by entity slot, so systems walk
+ * contiguous arrays instead of chasing GameObject references. Slots stay in spawn
+ * order: destroy() only flags, and compact() closes the gaps in one pass.
+ */
+public class EntityStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Archetype
+    byte[] archetype;
+    int[] id;
+
+    // Transform
+    double[] x;
+    double[] y;
+    double[] previousX;
+    double[] previousY;
+
+    // Velocity
+    double[] velocityX;
+    double[] velocityY;
+
+    // Collider
+    double[] width;
+    double[] height;
+
+    // Health
+    int[] health;
+    boolean[] dead;
+
+    // Weapon
+    int[] weaponTimer;
+    int[] weaponCooldown;
+    int[] weaponDamage;
+
+    // Sprite
+    int[] sprite;
+    int[] level;
+    int[] scoreValue;
+
+    private int size;
+    private int nextId = 1;
+    private boolean hasDead = false;
+
+    public EntityStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Add an enemy, copying its components from a freshly constructed Enemy prototype
+     * @return slot of the new entity
+     */
+    public int spawnEnemy(Enemy prototype) {
+        int i = create(Archetype.ENEMY);
+        x[i] = prototype.getX();
+        y[i] = prototype.getY();
+        previousX[i] = x[i];
+        previousY[i] = y[i];
+        velocityX[i] = prototype.getVelocityX();
+        velocityY[i] = prototype.getVelocityY();
+        width[i] = prototype.getWidth();
+        height[i] = prototype.getHeight();
+        health[i] = 1;
+        weaponTimer[i] = 0;
+        weaponCooldown[i] = Enemy.SHOOT_COOLDOWN;
+        weaponDamage[i] = prototype.getBulletDamage();
+        sprite[i] = Archetype.ENEMY.getSprite();
+        level[i] = prototype.getLevel();
+        scoreValue[i] = prototype.getScoreValue();
+        return i;
+    }
+
+    private int create(Archetype type) {
+        if (size == x.length) {
+            grow();
+        }
+        int i = size++;
+        archetype[i] = (byte) type.ordinal();
+        id[i] = nextId++;
+        dead[i] = false;
+        return i;
+    }
+
+    /**
+     * Flag an entity for removal at the next compact()
+     */
+    public void destroy(int i) {
+        if (!dead[i]) {
+            dead[i] = true;
+            hasDead = true;
+        }
+    }
+
+    /**
+     * Remove destroyed entities, preserving the order of the survivors
+     */
+    public void compact() {
+        if (!hasDead) return;
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (dead[read]) continue;
+            if (write != read) {
+                move(read, write);
+            }
+            write++;
+        }
+        Arrays.fill(dead, write, size, false);
+        size = write;
+        hasDead = false;
+    }
+
+    public void clear() {
+        Arrays.fill(dead, 0, size, false);
+        size = 0;
+        hasDead = false;
+        nextId = 1; // Ids feed per-entity random rolls, so restart them with each level
+    }
+
+    /**
+     * Write every slot and the id counter, for replay keyframes
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(size);
+        out.writeInt(nextId);
+        for (int i = 0; i < size; i++) {
+            out.writeByte(archetype[i]);
+            out.writeInt(id[i]);
+            out.writeDouble(x[i]);
+            out.writeDouble(y[i]);
+            out.writeDouble(previousX[i]);
+            out.writeDouble(previousY[i]);
+            out.writeDouble(velocityX[i]);
+            out.writeDouble(velocityY[i]);
+            out.writeDouble(width[i]);
+            out.writeDouble(height[i]);
+            out.writeInt(health[i]);
+            out.writeBoolean(dead[i]);
+            out.writeInt(weaponTimer[i]);
+            out.writeInt(weaponCooldown[i]);
+            out.writeInt(weaponDamage[i]);
+            out.writeInt(sprite[i]);
+            out.writeInt(level[i]);
+            out.writeInt(scoreValue[i]);
+        }
+    }
+
+    /**
+     * Replace the contents with state written by writeState
+     */
+    public void readState(DataInput in) throws IOException {
+        clear();
+        int count = in.readInt();
+        nextId = in.readInt();
+        while (x.length < count) {
+            grow();
+        }
+        for (int i = 0; i < count; i++) {
+            archetype[i] = in.readByte();
+            id[i] = in.readInt();
+            x[i] = in.readDouble();
+            y[i] = in.readDouble();
+            previousX[i] = in.readDouble();
+            previousY[i] = in.readDouble();
+            velocityX[i] = in.readDouble();
+            velocityY[i] = in.readDouble();
+            width[i] = in.readDouble();
+            height[i] = in.readDouble();
+            health[i] = in.readInt();
+            dead[i] = in.readBoolean();
+            weaponTimer[i] = in.readInt();
+            weaponCooldown[i] = in.readInt();
+            weaponDamage[i] = in.readInt();
+            sprite[i] = in.readInt();
+            level[i] = in.readInt();
+            scoreValue[i] = in.readInt();
+            hasDead |= dead[i];
+        }
+        size = count;
+    }
+
+    private void move(int from, int to) {
+        archetype[to] = archetype[from];
+        id[to] = id[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        health[to] = health[from];
+        dead[to] = false;
+        weaponTimer[to] = weaponTimer[from];
+        weaponCooldown[to] = weaponCooldown[from];
+        weaponDamage[to] = weaponDamage[from];
+        sprite[to] = sprite[from];
+        level[to] = level[from];
+        scoreValue[to] = scoreValue[from];
+    }
+
+    private void allocate(int capacity) {
+        archetype = new byte[capacity];
+        id = new int[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        previousX = new double[capacity];
+        previousY = new double[capacity];
+        velocityX = new double[capacity];
+        velocityY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        health = new int[capacity];
+        dead = new boolean[capacity];
+        weaponTimer = new int[capacity];
+        weaponCooldown = new int[capacity];
+        weaponDamage = new int[capacity];
+        sprite = new int[capacity];
+        level = new int[capacity];
+        scoreValue = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        archetype = Arrays.copyOf(archetype, capacity);
+        id = Arrays.copyOf(id, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        health = Arrays.copyOf(health, capacity);
+        dead = Arrays.copyOf(dead, capacity);
+        weaponTimer = Arrays.copyOf(weaponTimer, capacity);
+        weaponCooldown = Arrays.copyOf(weaponCooldown, capacity);
+        weaponDamage = Arrays.copyOf(weaponDamage, capacity);
+        sprite = Arrays.copyOf(sprite, capacity);
+        level = Arrays.copyOf(level, capacity);
+        scoreValue = Arrays.copyOf(scoreValue, capacity);
+    }
+
+    // Read accessors for code outside the systems
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public Archetype getArchetype(int i) { return Archetype.values()[archetype[i]]; }
+    public int getId(int i) { return id[i]; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getWidth(int i) { return width[i]; }
+    public double getHeight(int i) { return height[i]; }
+    public int getHealth(int i) { return health[i]; }
+    public boolean isDead(int i) { return dead[i]; }
+    public int getLevel(int i) { return level[i]; }
+    public int getScoreValue(int i) { return scoreValue[i]; }
+    public int getSprite(int i) { return sprite[i]; }
+
+    public double getInterpolatedX(int i, double interpolation) {
+        return previousX[i] + (x[i] - previousX[i]) * interpolation;
+    }
+
+    public double getInterpolatedY(int i, double interpolation) {
+        return previousY[i] + (y[i] - previousY[i]) * interpolation;
+    }
+
+    /**
+     * Box overlap against entity i (same test as GameObject.collidesWith)
+     */
+    public boolean intersects(int i, double otherX, double otherY, double otherWidth, double otherHeight) {
+        return x[i] < otherX + otherWidth &&
+                x[i] + width[i] > otherX &&
+                y[i] < otherY + otherHeight &&
+                y[i] + height[i] > otherY;
+    }
+}
@@ -0,0 +1,67 @@
+package ecs;
+
+import engine.IntList;
+
+/**
+ * Integrates entity transforms from their velocities
+ * Enemies also drift vertically with the original sine-wave AI and stay within the playfield
+ */
+public class MovementSystem {
+    private final double fieldHeight;
+
+    public MovementSystem(double fieldHeight) {
+        this.fieldHeight = fieldHeight;
+    }
+
+    public void update(EntityStore store) {
+        update(store, 0, store.size());
+    }
+
+    /**
+     * Move entities in slots [from, to)
+     */
+    public void update(EntityStore store, int from, int to) {
+        double[] x = store.x;
+        double[] y = store.y;
+        double[] height = store.height;
+        byte enemy = (byte) Archetype.ENEMY.ordinal();
+
+        for (int i = from; i < to; i++) {
+            store.previousX[i] = x[i];
+            store.previousY[i] = y[i];
+            x[i] += store.velocityX[i];
+            y[i] += store.velocityY[i];
+
+            if (store.archetype[i] == enemy) {
+                // Simple AI: slight vertical movement
+                y[i] += Math.sin(x[i] * 0.01) * 0.5;
+
+                // Keep enemy within screen bounds
+                if (y[i] < 0) y[i] = 0;
+                if (y[i] > fieldHeight - height[i]) y[i] = fieldHeight - height[i];
+            }
+        }
+    }
+
+    /**
+     * Record slots in [from, to) that have fully left the playfield on the left, without destroying them
+     */
+    public void collectOffScreen(EntityStore store, int from, int to, IntList deathsOut) {
+        for (int i = from; i < to; i++) {
+            if (store.x[i] < -store.width[i]) {
+                deathsOut.add(i);
+            }
+        }
+    }
+
+    /**
+     * Destroy entities that have fully left the playfield on the left
+     */
+    public void cullOffScreen(EntityStore store) {
+        for (int i = 0; i < store.size(); i++) {
+            if (store.x[i] < -store.width[i]) {
+                store.destroy(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ecs;
+
+import graphics.RenderQueue;
+import graphics.SpriteAtlas;
+
+/**
+ * Queues every entity in the store by its sprite id at its interpolated position
+ */
+public class RenderSystem {
+    private static final int ENEMY_SPRITE = Archetype.ENEMY.getSprite();
+
+    /**
+     * Queue every ship as an atlas cell and its level label in white
+     */
+    public void submit(RenderQueue queue, EntityStore store, double interpolation, SpriteAtlas atlas) {
+        int count = store.size();
+        for (int i = 0; i < count; i++) {
+            if (store.sprite[i] != ENEMY_SPRITE) continue;
+
+            double x = store.getInterpolatedX(i, interpolation);
+            double y = store.getInterpolatedY(i, interpolation);
+            queue.add(RenderQueue.atlasSprite(atlas.getEnemyRegion(store.level[i])), x, y,
+                    RenderQueue.LAYER_SHIPS, RenderQueue.OPAQUE);
+            queue.add(RenderQueue.labelSprite(store.level[i]), x + store.width[i] + 2, y + 10,
+                    RenderQueue.LAYER_LABELS, RenderQueue.OPAQUE);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ecs;
+
+import engine.ProjectileBuffer;
+import engine.RandomService;
+
+/**
+ * Ticks weapon cooldowns and fires enemy shots into the projectile buffer
+ * Fire decisions are a stateless roll of (fire key, entity id, tick), so any split of the
+ * slots across workers gives the same shots as a sequential pass.
+ */
+public class WeaponSystem {
+    private static final int FIRE_CHANCE_PERCENT = 2; // 2% chance per frame once cooled down
+    private static final double SHOT_SPEED = -6;
+
+    private long fireKey;
+
+    public WeaponSystem(long fireKey) {
+        this.fireKey = fireKey;
+    }
+
+    public void setFireKey(long fireKey) {
+        this.fireKey = fireKey;
+    }
+
+    public void update(EntityStore store, ProjectileBuffer projectiles, long tick) {
+        update(store, projectiles, 0, store.size(), tick);
+    }
+
+    /**
+     * Update weapons of entities in slots [from, to)
+     */
+    public void update(EntityStore store, ProjectileBuffer projectiles, int from, int to, long tick) {
+        int[] timer = store.weaponTimer;
+        int[] id = store.id;
+        for (int i = from; i < to; i++) {
+            if (timer[i] > 0) {
+                timer[i]--;
+            }
+            if (timer[i] <= 0 && RandomService.roll(fireKey, id[i], tick, 100) < FIRE_CHANCE_PERCENT) {
+                timer[i] = store.weaponCooldown[i];
+                projectiles.spawn(store.x[i], store.y[i] + store.height[i] / 2 - 2, SHOT_SPEED, 0,
+                        store.weaponDamage[i], ProjectileBuffer.OWNER_ENEMY);
+            }
+        }
+    }
+}
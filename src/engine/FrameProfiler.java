@@ -0,0 +1,150 @@
+package engine;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Per-phase timing of simulation ticks and painted frames, kept in log-bucketed histograms
+ * Tick phases may be reported in several pieces (input is sampled by the screen and then
+ * applied by the World); pieces are summed and recorded once per tick by endTick. Paint time
+ * is recorded per frame. Nothing allocates while recording, so profiling can stay on in play.
+ */
+public class FrameProfiler {
+    public static final int INPUT = 0;
+    public static final int PLAYER = 1;
+    public static final int ENEMIES = 2;
+    public static final int PROJECTILES = 3;
+    public static final int COLLISIONS = 4;
+    public static final int GAME_MANAGER = 5;
+    public static final int CLEANUP = 6;
+    public static final int TICK = 7;        // whole World.step
+    public static final int PAINT = 8;
+    public static final int PHASE_COUNT = 9;
+
+    private static final String[] PHASE_NAMES = {
+            "input", "player", "enemies", "projectiles", "collisions",
+            "gameManager", "cleanup", "tick total", "paint"
+    };
+
+    private final Histogram[] phases = new Histogram[PHASE_COUNT];
+    private final long[] pending = new long[PHASE_COUNT];
+    private final Histogram pairsPerTick = new Histogram();
+    private long lastPairsTested = -1;
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long gcCountAtReset;
+    private long gcMillisAtReset;
+
+    public FrameProfiler() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phases[i] = new Histogram();
+        }
+        markGcBaseline();
+    }
+
+    /**
+     * Add time to a tick phase; recorded when the tick ends
+     */
+    public void add(int phase, long nanos) {
+        pending[phase] += nanos;
+    }
+
+    /**
+     * Record the phases of the tick that just finished
+     * @param pairsTested the world's running total of collision pairs tested
+     */
+    public void endTick(long pairsTested) {
+        for (int i = 0; i <= TICK; i++) {
+            phases[i].record(pending[i]);
+            pending[i] = 0;
+        }
+        if (lastPairsTested >= 0) {
+            pairsPerTick.record(pairsTested - lastPairsTested);
+        }
+        lastPairsTested = pairsTested;
+    }
+
+    public void recordPaint(long nanos) {
+        phases[PAINT].record(nanos);
+    }
+
+    /**
+     * Forget everything recorded so far, including the garbage collection baseline
+     */
+    public void reset() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phases[i].reset();
+            pending[i] = 0;
+        }
+        pairsPerTick.reset();
+        lastPairsTested = -1;
+        markGcBaseline();
+    }
+
+    private void markGcBaseline() {
+        gcCountAtReset = getTotalGcCount();
+        gcMillisAtReset = getTotalGcMillis();
+    }
+
+    public Histogram getPhase(int phase) {
+        return phases[phase];
+    }
+
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    public Histogram getPairsPerTick() {
+        return pairsPerTick;
+    }
+
+    /**
+     * Collections by every collector since the JVM started
+     */
+    public long getTotalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    public long getTotalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    public long getGcCountSinceReset() {
+        return getTotalGcCount() - gcCountAtReset;
+    }
+
+    public long getGcMillisSinceReset() {
+        return getTotalGcMillis() - gcMillisAtReset;
+    }
+
+    /**
+     * Summary line per phase followed by the full bucket counts, in microseconds
+     */
+    public void writeReport(Appendable out) throws IOException {
+        out.append(String.format("%-12s %10s %10s %10s %10s %10s%n", "phase", "count", "p50 us", "p99 us", "max us", "mean us"));
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            Histogram h = phases[i];
+            out.append(String.format("%-12s %10d %10.1f %10.1f %10.1f %10.1f%n", PHASE_NAMES[i], h.getCount(),
+                    h.percentile(0.50) / 1000.0, h.percentile(0.99) / 1000.0, h.getMax() / 1000.0, h.getMean() / 1000.0));
+        }
+        out.append(String.format("collision pairs per tick: p50 %d, p99 %d, max %d%n",
+                pairsPerTick.percentile(0.50), pairsPerTick.percentile(0.99), pairsPerTick.getMax()));
+        out.append(String.format("garbage collections: %d taking %d ms%n", getGcCountSinceReset(), getGcMillisSinceReset()));
+
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            if (phases[i].getCount() == 0) continue;
+            out.append(System.lineSeparator()).append(PHASE_NAMES[i]).append(':').append(System.lineSeparator());
+            phases[i].writeBuckets(out, 1000, "us");
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package engine;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Fixed-timestep game loop with render interpolation
+ * Simulation advances in constant steps measured with System.nanoTime,
+ * independent of how often frames are painted. Frames are painted at most once per
+ * frame interval, by default the display's refresh rate, and the pump sleeps until the
+ * next step or frame is due instead of polling.
+ */
+public class GameLoop implements ActionListener {
+    public static final int DEFAULT_TICK_RATE = 60;
+    private static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    /**
+     * Callbacks driven by the loop
+     */
+    public interface Simulation {
+        void update();
+        void render(double interpolation);
+    }
+
+    private final Simulation simulation;
+    private final long stepNanos;
+    private final long frameNanos;
+    private final int maxStepsPerFrame;
+    private final Timer pump;
+
+    private boolean running = false;
+    private long lastTime;
+    private long accumulator;
+    private long nextFrameTime;
+
+    // Statistics
+    private long totalSteps = 0;
+    private long droppedNanos = 0;
+
+    public GameLoop(Simulation simulation) {
+        this(simulation, DEFAULT_TICK_RATE, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+
+    public GameLoop(Simulation simulation, int tickRate, int maxStepsPerFrame) {
+        this(simulation, tickRate, maxStepsPerFrame, displayRefreshRate());
+    }
+
+    /**
+     * @param frameRate most frames painted per second
+     */
+    public GameLoop(Simulation simulation, int tickRate, int maxStepsPerFrame, int frameRate) {
+        if (tickRate <= 0 || maxStepsPerFrame <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Tick rate, max steps and frame rate must be positive");
+        }
+        this.simulation = simulation;
+        this.stepNanos = 1_000_000_000L / tickRate;
+        this.frameNanos = 1_000_000_000L / frameRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.pump = new Timer(0, this);
+        this.pump.setRepeats(false);   // rescheduled for the next deadline after each run
+    }
+
+    /**
+     * Refresh rate of the main screen, or the tick rate when it is unknown or there is no screen
+     */
+    private static int displayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return DEFAULT_TICK_RATE;
+        int rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDisplayMode().getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_TICK_RATE : rate;
+    }
+
+    /**
+     * Start (or resume) the loop without catching up on time spent stopped
+     */
+    public void start() {
+        if (running) return;
+        running = true;
+        lastTime = System.nanoTime();
+        accumulator = 0;
+        nextFrameTime = lastTime;
+        pump.setInitialDelay(0);
+        pump.restart();
+    }
+
+    public void stop() {
+        running = false;
+        pump.stop();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        if (!running) return;
+
+        long now = System.nanoTime();
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        // Run as many fixed steps as have accumulated, up to the cap
+        int steps = 0;
+        while (accumulator >= stepNanos && steps < maxStepsPerFrame && running) {
+            simulation.update();
+            accumulator -= stepNanos;
+            steps++;
+            totalSteps++;
+        }
+
+        if (!running) return;
+
+        // Spiral-of-death guard: drop the backlog we could not catch up on
+        if (accumulator >= stepNanos) {
+            droppedNanos += accumulator - (accumulator % stepNanos);
+            accumulator %= stepNanos;
+        }
+
+        if (now >= nextFrameTime) {
+            simulation.render((double) accumulator / stepNanos);
+            // Keep a steady cadence, but don't try to make up frames that were late
+            nextFrameTime += frameNanos;
+            if (nextFrameTime <= now) {
+                nextFrameTime = now + frameNanos;
+            }
+        }
+
+        if (running) {
+            schedule(now);
+        }
+    }
+
+    /**
+     * Wake up when the next step or the next frame is due, whichever comes first
+     */
+    private void schedule(long now) {
+        long nextStepTime = now + stepNanos - accumulator;
+        long wait = Math.min(nextStepTime, nextFrameTime) - System.nanoTime();
+        // Timer delays are whole milliseconds; round up so the deadline has passed on wake-up
+        pump.setInitialDelay((int) Math.max(0, (wait + 999_999) / 1_000_000));
+        pump.restart();
+    }
+
+    public double getTickRate() {
+        return 1_000_000_000.0 / stepNanos;
+    }
+
+    public double getFrameRate() {
+        return 1_000_000_000.0 / frameNanos;
+    }
+
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    public long getDroppedNanos() {
+        return droppedNanos;
+    }
+}
@@ -0,0 +1,190 @@
+package engine;
+
+import ecs.EntityStore;
+import entities.Enemy;
+import replay.Replay;
+import replay.ReplayPlayer;
+import replay.ReplayRecorder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+/**
+ * Command-line entry point that runs the simulation without a display
+ * Usage: java -cp out engine.HeadlessRunner [ticks] [--parallel] [--stress enemies] [--seed n] [--record file] [--profile]
+ *        java -cp out engine.HeadlessRunner --replay file [--seek tick] [--parallel]
+ * Runs with the same seed and arguments end in the same state, parallel or not.
+ * --record saves the first game as a replay; --replay plays one back at full speed and checks it.
+ * --profile prints per-phase tick timings at the end.
+ */
+public class HeadlessRunner {
+    private static final int DEFAULT_TICKS = 100_000;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int ticks = DEFAULT_TICKS;
+        boolean parallel = false;
+        int stressEnemies = 0;
+        long seed = 1;
+        Path recordPath = null;
+        Path replayPath = null;
+        int seekTick = -1;
+        boolean profile = false;
+        for (int i = 0; i < args.length; i++) {
+            try {
+                if (args[i].equals("--parallel")) {
+                    parallel = true;
+                } else if (args[i].equals("--profile")) {
+                    profile = true;
+                } else if (args[i].equals("--stress") && i + 1 < args.length) {
+                    stressEnemies = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("--record") && i + 1 < args.length) {
+                    recordPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--replay") && i + 1 < args.length) {
+                    replayPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--seek") && i + 1 < args.length) {
+                    seekTick = Integer.parseInt(args[++i]);
+                } else {
+                    ticks = Integer.parseInt(args[i]);
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid number: " + args[i]);
+                return;
+            }
+        }
+
+        if (recordPath != null && stressEnemies > 0) {
+            System.err.println("--stress spawns enemies outside the recorded inputs and cannot be combined with --record");
+            return;
+        }
+        if (replayPath != null) {
+            playReplay(replayPath, seekTick, parallel);
+            return;
+        }
+
+        World world = new World(seed);
+        world.reset();
+        if (parallel) {
+            world.setParallelUpdater(new ParallelUpdater());
+        }
+        FrameProfiler profiler = profile ? new FrameProfiler() : null;
+        world.setProfiler(profiler);
+        ReplayRecorder recorder = new ReplayRecorder(world);
+        if (recordPath != null) {
+            recorder.begin(seed);
+        }
+        InputState input = new InputState();
+        SplittableRandom stressRandom = new SplittableRandom(seed);
+
+        int gamesPlayed = 1;
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            scriptInput(input, i);
+            if (stressEnemies > 0) {
+                fillEnemies(world.getEnemies(), stressEnemies, world.getGameManager().getLevel(), stressRandom);
+            }
+            recorder.step(input);
+            if (world.isGameOver()) {
+                saveReplay(recorder, recordPath);
+                world.reset(seed + gamesPlayed);
+                gamesPlayed++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        saveReplay(recorder, recordPath);
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.println("Simulated " + ticks + " ticks in " + String.format("%.3f", seconds) + " s" +
+                (parallel ? " (parallel)" : ""));
+        System.out.println("Ticks per second: " + String.format("%.0f", ticks / seconds));
+        System.out.println("Games played: " + gamesPlayed + ", final level: " + world.getGameManager().getLevel());
+        System.out.println("Projectiles: " + world.getProjectiles());
+        System.out.println("Collision pairs tested: " + world.getPairsTested());
+        System.out.println("Seed: " + seed + ", final tick: " + world.getTick() +
+                ", score: " + world.getGameManager().getScore() +
+                ", enemies: " + world.getEnemies().size());
+        if (profiler != null) {
+            try {
+                profiler.writeReport(System.out);
+            } catch (IOException e) {
+                System.err.println("Could not write profile: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Play a recorded replay at full speed, checking every tick against the recorded checksum
+     */
+    private static void playReplay(Path path, int seekTick, boolean parallel) {
+        Replay replay;
+        try {
+            replay = Replay.load(path);
+        } catch (IOException e) {
+            System.err.println("Could not load replay " + path + ": " + e.getMessage());
+            return;
+        }
+        System.out.println("Replay: " + replay);
+
+        World world = new World(replay.getSeed());
+        if (parallel) {
+            world.setParallelUpdater(new ParallelUpdater());
+        }
+        ReplayPlayer player = new ReplayPlayer(replay, world);
+
+        long start = System.nanoTime();
+        if (seekTick >= 0) {
+            player.seek(seekTick);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            System.out.println("Seeked to tick " + player.getPosition() + " in " + String.format("%.2f", millis) +
+                    " ms, score: " + world.getGameManager().getScore() + ", level: " + world.getGameManager().getLevel());
+            start = System.nanoTime();
+        }
+        int stepped = player.playToEnd();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.println("Played " + stepped + " ticks in " + String.format("%.3f", seconds) + " s (" +
+                String.format("%.0f", stepped / Math.max(seconds, 1e-9)) + " ticks/s)");
+        if (player.getDivergedAt() >= 0) {
+            System.out.println("DIVERGED at tick " + player.getDivergedAt());
+        } else {
+            System.out.println("All checksums match, final score: " + world.getGameManager().getScore());
+        }
+    }
+
+    private static void saveReplay(ReplayRecorder recorder, Path path) {
+        Replay replay = recorder.finish();
+        if (replay == null || path == null) return;
+        try {
+            replay.save(path);
+            System.out.println("Replay saved to " + path + ": " + replay);
+        } catch (IOException e) {
+            System.err.println("Could not save replay " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Simple scripted pilot: sweep up and down while firing continuously
+     */
+    private static void scriptInput(InputState input, int tick) {
+        boolean goingUp = (tick / 120) % 2 == 0;
+        input.set(InputState.UP, goingUp);
+        input.set(InputState.DOWN, !goingUp);
+        input.set(InputState.FIRE, true);
+    }
+
+    /**
+     * Top the enemy population up to the target, spread over the right half of the field
+     */
+    private static void fillEnemies(EntityStore enemies, int target, int level, SplittableRandom random) {
+        while (enemies.size() < target) {
+            double x = World.WIDTH / 2.0 + random.nextInt(World.WIDTH / 2);
+            double y = random.nextInt(World.HEIGHT - 50) + 25;
+            enemies.spawnEnemy(new Enemy(x, y, level));
+        }
+    }
+}
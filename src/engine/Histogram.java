@@ -0,0 +1,110 @@
+package engine;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of non-negative long values (nanoseconds, counts) with log-scaled buckets
+ * Each power of two is split into 8 linear sub-buckets, so any value is placed within 12.5%
+ * of its true size. Values below 8 are counted exactly. The bucket array is allocated once;
+ * recording and reading percentiles never allocate.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        if (value > max) max = value;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Smallest value that lands in the bucket
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << shift;
+    }
+
+    /**
+     * Largest value that lands in the bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Value at or below which the given fraction of recorded values fall, or 0 if empty
+     * The answer is the top of the matching bucket, capped at the largest value seen.
+     */
+    public long percentile(double fraction) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= target) {
+                return Math.min(upperBound(b), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Write every non-empty bucket as "low..high count" lines, values divided by the given unit
+     */
+    public void writeBuckets(Appendable out, long unit, String unitName) throws IOException {
+        for (int b = 0; b < BUCKETS; b++) {
+            if (counts[b] == 0) continue;
+            out.append(String.format("    %12.3f .. %12.3f %s  %d%n",
+                    (double) lowerBound(b) / unit, (double) upperBound(b) / unit, unitName, counts[b]));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package engine;
+
+/**
+ * Player input sampled for one simulation step
+ * Stored as a bit mask so it can be copied, compared and recorded cheaply
+ */
+public class InputState {
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int FIRE = 1 << 4;
+
+    private int bits;
+
+    public InputState() {
+        this.bits = 0;
+    }
+
+    public InputState(int bits) {
+        this.bits = bits;
+    }
+
+    public void set(int flag, boolean pressed) {
+        if (pressed) {
+            bits |= flag;
+        } else {
+            bits &= ~flag;
+        }
+    }
+
+    public boolean isPressed(int flag) {
+        return (bits & flag) != 0;
+    }
+
+    public void clear() {
+        bits = 0;
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    public void setBits(int bits) {
+        this.bits = bits;
+    }
+}
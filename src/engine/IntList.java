@@ -0,0 +1,34 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, reused across ticks to avoid boxing and allocation
+ */
+public class IntList {
+    private int[] values;
+    private int size;
+
+    public IntList(int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,200 @@
+package engine;
+
+import ecs.CollisionSystem;
+import ecs.EntityStore;
+import ecs.MovementSystem;
+import ecs.WeaponSystem;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join execution of the per-entity phases of a World step
+ * Work is cut into fixed-size chunks (independent of the core count), each chunk writes its
+ * spawns, deaths and hits into its own buffer, and the buffers are merged in chunk order at
+ * the end of the phase. Below the threshold every phase runs inline on the calling thread.
+ */
+public class ParallelUpdater {
+    public static final int DEFAULT_THRESHOLD = 4096;
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    // Per-chunk buffers, reused across ticks
+    private Chunk[] chunks = new Chunk[0];
+
+    /**
+     * Worker-local output and scratch state for one chunk
+     */
+    private static class Chunk {
+        final IntList deaths = new IntList(16);
+        final IntList hitPairs = new IntList(16);
+        final ProjectileBuffer spawns = new ProjectileBuffer(16);
+        final SpatialGrid.Cursor cursor = new SpatialGrid.Cursor();
+        int[] scratch;
+        long tests;
+    }
+
+    /**
+     * A phase body run over [from, to) with the chunk's own buffers
+     */
+    private interface RangeBody {
+        void run(Chunk chunk, int from, int to);
+    }
+
+    public ParallelUpdater() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelUpdater(ForkJoinPool pool, int threshold, int chunkSize) {
+        if (threshold < 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Threshold must be >= 0 and chunk size > 0");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Move enemies, then fire their weapons; deaths from leaving the screen are applied in slot order
+     */
+    public void updateEntities(EntityStore store, MovementSystem movement, WeaponSystem weapons,
+                               ProjectileBuffer projectiles, long tick) {
+        int n = store.size();
+        if (n < threshold) {
+            movement.update(store);
+            weapons.update(store, projectiles, tick);
+            movement.cullOffScreen(store);
+            store.compact();
+            return;
+        }
+
+        int chunkCount = prepareChunks(n);
+        for (int c = 0; c < chunkCount; c++) {
+            chunks[c].deaths.clear();
+            chunks[c].spawns.clear();
+        }
+
+        invoke(n, (chunk, from, to) -> {
+            movement.update(store, from, to);
+            weapons.update(store, chunk.spawns, from, to, tick);
+            movement.collectOffScreen(store, from, to, chunk.deaths);
+        });
+
+        // Merge in chunk order so the result does not depend on scheduling
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            projectiles.appendAll(chunk.spawns);
+            for (int i = 0; i < chunk.deaths.size(); i++) {
+                store.destroy(chunk.deaths.get(i));
+            }
+        }
+        store.compact();
+    }
+
+    /**
+     * Integrate every projectile in parallel ranges
+     */
+    public void integrateProjectiles(ProjectileBuffer projectiles) {
+        int n = projectiles.size();
+        if (n < threshold) {
+            projectiles.integrate();
+            return;
+        }
+        prepareChunks(n);
+        invoke(n, (chunk, from, to) -> projectiles.integrate(from, to));
+    }
+
+    /**
+     * Narrow phase of projectiles against the store in parallel ranges, hits applied in projectile order
+     * The collision system's grid must already be rebuilt for the store.
+     * @return number of entities destroyed
+     */
+    public int resolveProjectileHits(CollisionSystem collision, EntityStore store, ProjectileBuffer projectiles,
+                                     int owner, CollisionSystem.HitListener listener) {
+        int n = projectiles.size();
+        if (n < threshold) {
+            return collision.resolveProjectileHits(store, projectiles, owner, listener);
+        }
+
+        int chunkCount = prepareChunks(n);
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks[c];
+            chunk.hitPairs.clear();
+            chunk.tests = 0;
+            chunk.scratch = CollisionSystem.ensureScratch(chunk.scratch, store);
+        }
+
+        invoke(n, (chunk, from, to) -> chunk.tests = collision.collectProjectileHits(
+                store, projectiles, owner, from, to, chunk.cursor, chunk.scratch, chunk.hitPairs));
+
+        int kills = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            collision.addPairsTested(chunks[c].tests);
+            kills += collision.applyProjectileHits(store, projectiles, chunks[c].hitPairs, listener);
+        }
+        return kills;
+    }
+
+    public boolean isParallel(int count) {
+        return count >= threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    private int prepareChunks(int n) {
+        int chunkCount = (n + chunkSize - 1) / chunkSize;
+        if (chunks.length < chunkCount) {
+            Chunk[] grown = new Chunk[chunkCount];
+            System.arraycopy(chunks, 0, grown, 0, chunks.length);
+            for (int c = chunks.length; c < chunkCount; c++) {
+                grown[c] = new Chunk();
+            }
+            chunks = grown;
+        }
+        return chunkCount;
+    }
+
+    private void invoke(int n, RangeBody body) {
+        if (n == 0) return;
+        pool.invoke(new RangeTask(body, 0, (n + chunkSize - 1) / chunkSize, n));
+    }
+
+    /**
+     * Splits a run of chunks in halves until a single chunk remains
+     */
+    private class RangeTask extends RecursiveAction {
+        private final RangeBody body;
+        private final int firstChunk;
+        private final int endChunk;
+        private final int n;
+
+        RangeTask(RangeBody body, int firstChunk, int endChunk, int n) {
+            this.body = body;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (endChunk - firstChunk == 1) {
+                int from = firstChunk * chunkSize;
+                int to = Math.min(n, from + chunkSize);
+                body.run(chunks[firstChunk], from, to);
+                return;
+            }
+            int middle = (firstChunk + endChunk) >>> 1;
+            invokeAll(new RangeTask(body, firstChunk, middle, n),
+                    new RangeTask(body, middle, endChunk, n));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays store for projectiles
+ * Positions, velocities, damage and owner live in parallel primitive arrays so the whole
+ * set integrates in one tight loop. Dead projectiles are removed with swap-with-last
+ * compaction, so indices are only stable until the next compact().
+ */
+public class ProjectileBuffer {
+    public static final int OWNER_PLAYER = 0;
+    public static final int OWNER_ENEMY = 1;
+
+    // Every projectile shares the bullet hitbox
+    public static final double WIDTH = 9;
+    public static final double HEIGHT = 5;
+
+    private double[] x;
+    private double[] y;
+    private double[] velocityX;
+    private double[] velocityY;
+    private int[] damage;
+    private byte[] owner;
+    private boolean[] dead;
+    private int size;
+
+    // Statistics
+    private int highWaterMark = 0;
+    private int growCount = 0;
+
+    public ProjectileBuffer(int initialCapacity) {
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        velocityX = new double[initialCapacity];
+        velocityY = new double[initialCapacity];
+        damage = new int[initialCapacity];
+        owner = new byte[initialCapacity];
+        dead = new boolean[initialCapacity];
+    }
+
+    /**
+     * Append a projectile and return its index
+     */
+    public int spawn(double px, double py, double vx, double vy, int projectileDamage, int projectileOwner) {
+        if (size == x.length) {
+            grow();
+        }
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        velocityX[i] = vx;
+        velocityY[i] = vy;
+        damage[i] = projectileDamage;
+        owner[i] = (byte) projectileOwner;
+        dead[i] = false;
+        if (size > highWaterMark) {
+            highWaterMark = size;
+        }
+        return i;
+    }
+
+    /**
+     * Append every live projectile of another buffer, keeping its order
+     */
+    public void appendAll(ProjectileBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            if (!other.dead[i]) {
+                spawn(other.x[i], other.y[i], other.velocityX[i], other.velocityY[i], other.damage[i], other.owner[i]);
+            }
+        }
+    }
+
+    /**
+     * Advance every projectile by its velocity
+     */
+    public void integrate() {
+        integrate(0, size);
+    }
+
+    /**
+     * Advance projectiles in [from, to) by their velocity
+     */
+    public void integrate(int from, int to) {
+        double[] px = x;
+        double[] py = y;
+        double[] vx = velocityX;
+        double[] vy = velocityY;
+        for (int i = from; i < to; i++) {
+            px[i] += vx[i];
+            py[i] += vy[i];
+        }
+    }
+
+    /**
+     * Flag projectiles that left the playfield: player shots past the right edge,
+     * enemy shots past the left edge
+     */
+    public void markOffScreen(double screenWidth) {
+        for (int i = 0; i < size; i++) {
+            if (owner[i] == OWNER_PLAYER ? x[i] > screenWidth : x[i] < 0) {
+                dead[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Remove flagged projectiles by moving the last live one into each hole
+     */
+    public void compact() {
+        int i = 0;
+        while (i < size) {
+            if (dead[i]) {
+                int last = --size;
+                if (i != last) {
+                    x[i] = x[last];
+                    y[i] = y[last];
+                    velocityX[i] = velocityX[last];
+                    velocityY[i] = velocityY[last];
+                    damage[i] = damage[last];
+                    owner[i] = owner[last];
+                    dead[i] = dead[last];
+                }
+                dead[last] = false;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(dead, 0, size, false);
+        size = 0;
+    }
+
+    /**
+     * Number of projectiles of one owner (linear scan)
+     */
+    public int count(int projectileOwner) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (owner[i] == projectileOwner) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write every projectile, for replay keyframes
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(x[i]);
+            out.writeDouble(y[i]);
+            out.writeDouble(velocityX[i]);
+            out.writeDouble(velocityY[i]);
+            out.writeInt(damage[i]);
+            out.writeByte(owner[i]);
+            out.writeBoolean(dead[i]);
+        }
+    }
+
+    /**
+     * Replace the contents with state written by writeState
+     */
+    public void readState(DataInput in) throws IOException {
+        clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int slot = spawn(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                    in.readInt(), in.readByte());
+            dead[slot] = in.readBoolean();
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, x.length * 2);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        dead = Arrays.copyOf(dead, capacity);
+        growCount++;
+    }
+
+    // Index-based accessors for collision and rendering passes
+    public int size() { return size; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getVelocityX(int i) { return velocityX[i]; }
+    public double getVelocityY(int i) { return velocityY[i]; }
+    public int getDamage(int i) { return damage[i]; }
+    public int getOwner(int i) { return owner[i]; }
+    public boolean isDead(int i) { return dead[i]; }
+    public void kill(int i) { dead[i] = true; }
+
+    /**
+     * Position blended between the previous and current step; projectiles move in
+     * straight lines, so the previous position is simply one velocity step back
+     */
+    public double getInterpolatedX(int i, double interpolation) {
+        return x[i] - velocityX[i] * (1.0 - interpolation);
+    }
+
+    public double getInterpolatedY(int i, double interpolation) {
+        return y[i] - velocityY[i] * (1.0 - interpolation);
+    }
+
+    public int getCapacity() { return x.length; }
+    public int getHighWaterMark() { return highWaterMark; }
+    public int getGrowCount() { return growCount; }
+
+    @Override
+    public String toString() {
+        return "size " + size + "/" + x.length +
+                ", high water " + highWaterMark +
+                ", grown " + growCount + "x";
+    }
+}
@@ -0,0 +1,89 @@
+package engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Session-wide source of randomness
+ * One seed per session is split into independent streams (spawning, enemy fire, effects), so
+ * identical seeds and identical inputs give identical simulations. Per-entity decisions use a
+ * counter-based hash of (stream key, entity id, tick) instead of a shared sequence, which keeps
+ * results the same no matter how entities are ordered or split across worker threads.
+ */
+public class RandomService {
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final RandomStream spawning;
+    private final SplittableRandom effects;
+    private final long enemyFireKey;
+
+    public RandomService() {
+        this(System.nanoTime());
+    }
+
+    public RandomService(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+
+        // Split order is fixed so each stream depends only on the seed
+        this.spawning = new RandomStream(root.nextLong());
+        this.effects = root.split();
+        this.enemyFireKey = root.split().nextLong();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Stream for enemy spawn positions; part of the simulation state
+     */
+    public RandomStream spawning() {
+        return spawning;
+    }
+
+    /**
+     * Stream for purely visual effects; never feeds back into the simulation
+     */
+    public SplittableRandom effects() {
+        return effects;
+    }
+
+    public long getEnemyFireKey() {
+        return enemyFireKey;
+    }
+
+    /**
+     * Stateless roll in [0, bound) for one entity at one tick
+     */
+    public static int roll(long key, long entityId, long tick, int bound) {
+        long h = mix(key + mix(entityId * GOLDEN_GAMMA + tick));
+        return (int) ((h >>> 33) % bound);
+    }
+
+    /**
+     * Write the seed and simulation stream positions (the effects stream is not part of the simulation)
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeLong(spawning.getState());
+    }
+
+    public static RandomService readState(DataInput in) throws IOException {
+        RandomService random = new RandomService(in.readLong());
+        random.spawning.setState(in.readLong());
+        return random;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,40 @@
+package engine;
+
+/**
+ * SplitMix64 generator whose whole state is one long
+ * Used for simulation streams so replay keyframes can capture and restore them exactly.
+ */
+public class RandomStream {
+    private long state;
+
+    public RandomStream(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        state += RandomService.GOLDEN_GAMMA;
+        return RandomService.mix(state);
+    }
+
+    /**
+     * Uniform int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        return (int) ((nextLong() >>> 33) % bound);
+    }
+
+    /**
+     * Uniform double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+}
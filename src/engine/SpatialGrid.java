@@ -0,0 +1,156 @@
+package engine;
+
+import entities.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broad-phase over the playfield
+ * Boxes are bucketed into every cell they touch; queries return candidate indices without
+ * allocating, and callers map indices back to their own storage. Candidates come in no
+ * guaranteed order (cells are visited row by row, newest box first within a cell), so callers
+ * that need a deterministic order must sort them or pick by index.
+ * Boxes outside the playfield are clamped into the border cells, which keeps results correct.
+ */
+public class SpatialGrid {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHead;
+
+    // Linked entries: one per (box, cell) pair
+    private int[] entryNext;
+    private int[] entryItem;
+    private int entryCount;
+
+    private int itemCount;
+
+    // De-duplication state for queries made through query(...) on the owning thread
+    private final Cursor defaultCursor = new Cursor();
+
+    /**
+     * Per-thread query state, so several workers can query a grid that is not being modified
+     */
+    public static class Cursor {
+        private int[] itemStamp = new int[INITIAL_CAPACITY];
+        private int stamp;
+    }
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.cellHead = new int[columns * rows];
+        this.entryNext = new int[INITIAL_CAPACITY];
+        this.entryItem = new int[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Remove all boxes; storage is kept for the next rebuild
+     */
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        entryCount = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * Insert a box and return its index
+     */
+    public int insert(double x, double y, double width, double height) {
+        int index = itemCount++;
+
+        int minColumn = column(x);
+        int maxColumn = column(x + width);
+        int minRow = row(y);
+        int maxRow = row(y + height);
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                addEntry(r * columns + c, index);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Collect indices of boxes whose cells overlap the given box, each once, in no particular order
+     * @param out destination array; results beyond its length are dropped
+     * @return number of candidates written to out
+     */
+    public int query(double x, double y, double width, double height, int[] out) {
+        return query(defaultCursor, x, y, width, height, out);
+    }
+
+    /**
+     * Same as query(x, y, width, height, out) but with caller-owned de-duplication state
+     */
+    public int query(Cursor cursor, double x, double y, double width, double height, int[] out) {
+        if (cursor.itemStamp.length < itemCount) {
+            cursor.itemStamp = new int[Math.max(itemCount, cursor.itemStamp.length * 2)];
+            cursor.stamp = 0;
+        }
+        if (++cursor.stamp == 0) {
+            Arrays.fill(cursor.itemStamp, 0);
+            cursor.stamp = 1;
+        }
+        int[] itemStamp = cursor.itemStamp;
+        int stamp = cursor.stamp;
+
+        int minColumn = column(x);
+        int maxColumn = column(x + width);
+        int minRow = row(y);
+        int maxRow = row(y + height);
+
+        int count = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                for (int e = cellHead[r * columns + c]; e != -1; e = entryNext[e]) {
+                    int item = entryItem[e];
+                    if (itemStamp[item] != stamp) {
+                        itemStamp[item] = stamp;
+                        if (count < out.length) {
+                            out[count++] = item;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Query with a game object's bounding box
+     */
+    public int query(GameObject object, int[] out) {
+        return query(object.getX(), object.getY(), object.getWidth(), object.getHeight(), out);
+    }
+
+    public int size() {
+        return itemCount;
+    }
+
+    private void addEntry(int cell, int item) {
+        if (entryCount == entryNext.length) {
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+            entryItem = Arrays.copyOf(entryItem, entryCount * 2);
+        }
+        entryItem[entryCount] = item;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount;
+        entryCount++;
+    }
+
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+}
@@ -0,0 +1,381 @@
+package engine;
+
+import ecs.CollisionSystem;
+import ecs.EntityStore;
+import ecs.MovementSystem;
+import ecs.WeaponSystem;
+import entities.Player;
+import managers.GameManager;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Headless simulation core owning all entities, the game manager and collision logic
+ * Contains no Swing or audio code so it can run with java.awt.headless=true
+ * All randomness comes from one seeded RandomService, so a seed plus the per-tick inputs
+ * reproduce a session exactly, with or without the parallel updater.
+ */
+public class World {
+    public static final int WIDTH = 1000;
+    public static final int HEIGHT = 600;
+    private static final int INITIAL_PROJECTILE_CAPACITY = 512;
+    private static final int CONTACT_DAMAGE = 2;
+
+    /**
+     * Gameplay events raised during a step, handled by the presentation layer
+     */
+    public interface Listener {
+        void onPlayerShoot();
+        void onEnemyDestroyed(double x, double y);
+        void onLevelAdvanced(int level);
+        void onGameOver(int finalScore);
+    }
+
+    private final Player player;
+    private final EntityStore enemies;
+    private final ProjectileBuffer projectiles;
+    private GameManager gameManager;
+    private RandomService random;
+    private Listener listener;
+
+    // Systems run over the entity store in batches
+    private final MovementSystem movementSystem;
+    private final WeaponSystem weaponSystem;
+    private final CollisionSystem collisionSystem;
+    private final CollisionSystem.HitListener enemyHitListener;
+    private ParallelUpdater parallelUpdater;
+    private FrameProfiler profiler;
+    private long pairsTested = 0;
+
+    private boolean gameOver = false;
+    private long tick = 0;
+
+    public World() {
+        this(new RandomService());
+    }
+
+    public World(long seed) {
+        this(new RandomService(seed));
+    }
+
+    public World(RandomService random) {
+        this.random = random;
+        player = new Player(50, HEIGHT / 2);
+        enemies = new EntityStore();
+        projectiles = new ProjectileBuffer(INITIAL_PROJECTILE_CAPACITY);
+        gameManager = new GameManager(1, random.spawning());
+
+        movementSystem = new MovementSystem(HEIGHT);
+        weaponSystem = new WeaponSystem(random.getEnemyFireKey());
+        collisionSystem = new CollisionSystem(WIDTH, HEIGHT);
+        enemyHitListener = this::onEnemyHit;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Enable fork-join updates for large entity counts; null runs everything on the calling thread
+     */
+    public void setParallelUpdater(ParallelUpdater parallelUpdater) {
+        this.parallelUpdater = parallelUpdater;
+    }
+
+    /**
+     * Time every phase of each step into the given profiler; null turns timing off
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Clear entities, put the player back at the start and begin a fresh game manager at the given level
+     */
+    public void startLevel(int level) {
+        player.resetState();
+        enemies.clear();
+        projectiles.clear();
+        gameManager = new GameManager(level, random.spawning());
+        gameOver = false;
+    }
+
+    /**
+     * Reseed every random stream, then reset back to level 1
+     */
+    public void reset(long seed) {
+        random = new RandomService(seed);
+        weaponSystem.setFireKey(random.getEnemyFireKey());
+        reset();
+    }
+
+    /**
+     * Reset everything, including the player, back to level 1
+     */
+    public void reset() {
+        player.setHealthToMax();
+        tick = 0;
+        startLevel(1);
+    }
+
+    /**
+     * Advance the simulation by one fixed step
+     */
+    public void step(InputState input) {
+        if (gameOver) return;
+
+        long start = profiler != null ? System.nanoTime() : 0;
+        long time = start;
+
+        tick++;
+        storePreviousPositions();
+        applyInput(input);
+        time = lap(FrameProfiler.INPUT, time);
+        player.update();
+        time = lap(FrameProfiler.PLAYER, time);
+        updateEnemies();
+        time = lap(FrameProfiler.ENEMIES, time);
+        updateProjectiles();
+        time = lap(FrameProfiler.PROJECTILES, time);
+        checkCollisions();
+        time = lap(FrameProfiler.COLLISIONS, time);
+
+        int previousLevel = gameManager.getLevel();
+        gameManager.update(enemies, WIDTH, HEIGHT);
+        if (gameManager.getLevel() > previousLevel && listener != null) {
+            listener.onLevelAdvanced(gameManager.getLevel());
+        }
+        time = lap(FrameProfiler.GAME_MANAGER, time);
+
+        removeOffScreenObjects();
+        time = lap(FrameProfiler.CLEANUP, time);
+
+        if (profiler != null) {
+            profiler.add(FrameProfiler.TICK, time - start);
+            profiler.endTick(getPairsTested());
+        }
+    }
+
+    // Charge the time since the previous lap to a phase; free when profiling is off
+    private long lap(int phase, long since) {
+        if (profiler == null) return 0;
+        long now = System.nanoTime();
+        profiler.add(phase, now - since);
+        return now;
+    }
+
+    /**
+     * Snapshot the player position so rendering can interpolate between steps
+     * (the movement system does this for entities, projectiles derive it from velocity)
+     */
+    private void storePreviousPositions() {
+        player.storePreviousPosition();
+    }
+
+    private void applyInput(InputState input) {
+        if (input.isPressed(InputState.UP)) {
+            player.moveUp();
+        }
+        if (input.isPressed(InputState.DOWN)) {
+            player.moveDown();
+        }
+        if (input.isPressed(InputState.LEFT)) {
+            player.moveLeft();
+        }
+        if (input.isPressed(InputState.RIGHT)) {
+            player.moveRight();
+        }
+        if (input.isPressed(InputState.FIRE)) {
+            if (player.shoot(projectiles) && listener != null) {
+                listener.onPlayerShoot();
+            }
+        }
+    }
+
+    private void updateEnemies() {
+        if (parallelUpdater != null) {
+            parallelUpdater.updateEntities(enemies, movementSystem, weaponSystem, projectiles, tick);
+            return;
+        }
+        movementSystem.update(enemies);
+        weaponSystem.update(enemies, projectiles, tick);
+        movementSystem.cullOffScreen(enemies);
+        enemies.compact();
+    }
+
+    /**
+     * Move every projectile, including those fired this step, and drop the ones that left the screen
+     */
+    private void updateProjectiles() {
+        if (parallelUpdater != null) {
+            parallelUpdater.integrateProjectiles(projectiles);
+        } else {
+            projectiles.integrate();
+        }
+        projectiles.markOffScreen(WIDTH);
+        projectiles.compact();
+    }
+
+    /**
+     * Player bullets vs enemies through the collision system, then hits on the player
+     * Run by step() every tick; public only so benchmarks can time the real pass on its own.
+     */
+    public void checkCollisions() {
+        collisionSystem.rebuild(enemies);
+        int kills = parallelUpdater != null
+                ? parallelUpdater.resolveProjectileHits(collisionSystem, enemies, projectiles,
+                        ProjectileBuffer.OWNER_PLAYER, enemyHitListener)
+                : collisionSystem.resolveProjectileHits(enemies, projectiles,
+                        ProjectileBuffer.OWNER_PLAYER, enemyHitListener);
+        enemies.compact();
+
+        // Enemy bullets vs player: a single target, so a linear scan over the arrays is enough
+        int projectileCount = projectiles.size();
+        for (int p = 0; p < projectileCount; p++) {
+            if (projectiles.getOwner(p) != ProjectileBuffer.OWNER_ENEMY) continue;
+
+            pairsTested++;
+            if (player.intersects(projectiles.getX(p), projectiles.getY(p),
+                    ProjectileBuffer.WIDTH, ProjectileBuffer.HEIGHT)) {
+                projectiles.kill(p);
+                player.takeDamage(projectiles.getDamage(p)); // Use bullet's damage value
+                if (player.getHealth() <= 0) {
+                    gameOver();
+                }
+            }
+        }
+        projectiles.compact();
+
+        // Last enemy of the wave slipped past the player
+        if (!enemies.isEmpty() && enemies.getX(enemies.size() - 1) < -50) {
+            gameOver();
+        }
+
+        // Player vs enemies (rebuild first if kills made the grid stale)
+        if (kills > 0) {
+            collisionSystem.rebuild(enemies);
+        }
+        int contacts = collisionSystem.countContacts(enemies, player);
+        for (int i = 0; i < contacts; i++) {
+            player.takeDamage(CONTACT_DAMAGE);
+            if (player.getHealth() <= 0) {
+                gameOver();
+            }
+        }
+    }
+
+    private void onEnemyHit(EntityStore store, int slot) {
+        gameManager.addScore(store.getScoreValue(slot));
+        if (listener != null) {
+            listener.onEnemyDestroyed(store.getX(slot), store.getY(slot));
+        }
+    }
+
+    private void removeOffScreenObjects() {
+        movementSystem.cullOffScreen(enemies);
+        enemies.compact();
+    }
+
+    private void gameOver() {
+        if (gameOver) return;
+        gameOver = true;
+        if (listener != null) {
+            listener.onGameOver(gameManager.getScore());
+        }
+    }
+
+    /**
+     * Write the complete simulation state; statistics and the effects stream are not included
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(tick);
+        out.writeBoolean(gameOver);
+        random.writeState(out);
+        player.writeState(out);
+        enemies.writeState(out);
+        projectiles.writeState(out);
+        gameManager.writeState(out);
+    }
+
+    /**
+     * Restore state written by writeState
+     */
+    public void readState(DataInput in) throws IOException {
+        tick = in.readLong();
+        gameOver = in.readBoolean();
+        random = RandomService.readState(in);
+        weaponSystem.setFireKey(random.getEnemyFireKey());
+        player.readState(in);
+        enemies.readState(in);
+        projectiles.readState(in);
+        gameManager.readState(in, random.spawning());
+    }
+
+    /**
+     * Hash of the simulation state, cheap enough to compute every tick when checking replays
+     */
+    public int checksum() {
+        long h = mix(0xcbf29ce484222325L, tick);
+        h = mix(h, gameOver ? 1 : 0);
+        h = mix(h, random.spawning().getState());
+        h = mix(h, Double.doubleToLongBits(player.getX()));
+        h = mix(h, Double.doubleToLongBits(player.getY()));
+        h = mix(h, player.getHealth());
+        h = mix(h, gameManager.getScore());
+        h = mix(h, gameManager.getLevel());
+        h = mix(h, gameManager.getCurrentLevelEnemyCount());
+        for (int i = 0; i < enemies.size(); i++) {
+            h = mix(h, enemies.getId(i));
+            h = mix(h, Double.doubleToLongBits(enemies.getX(i)));
+            h = mix(h, Double.doubleToLongBits(enemies.getY(i)));
+            h = mix(h, enemies.getHealth(i));
+        }
+        for (int i = 0; i < projectiles.size(); i++) {
+            h = mix(h, Double.doubleToLongBits(projectiles.getX(i)));
+            h = mix(h, Double.doubleToLongBits(projectiles.getY(i)));
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // FNV-1a style step over 64-bit words
+    private static long mix(long h, long value) {
+        return (h ^ value) * 0x100000001b3L;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public EntityStore getEnemies() {
+        return enemies;
+    }
+
+    public ProjectileBuffer getProjectiles() {
+        return projectiles;
+    }
+
+    public RandomService getRandom() {
+        return random;
+    }
+
+    public GameManager getGameManager() {
+        return gameManager;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Total narrow-phase tests performed since the world was created
+     */
+    public long getPairsTested() {
+        return pairsTested + collisionSystem.getPairsTested();
+    }
+
+    public long getTick() {
+        return tick;
+    }
+}
@@ -1,5 +1,7 @@
 package entities;
 
+import graphics.RenderResources;
+
 import java.awt.*;
 
 /**
@@ -7,8 +9,15 @@ import java.awt.*;
  * Demonstrates inheritance
  */
 public class Bullet extends GameObject {
+    public static final int WIDTH = 9;
+    public static final int HEIGHT = 5;
+
+    // Trail colors, shared instead of allocated per draw
+    private static final Color TRAIL_NEAR = RenderResources.ramp(255, 255, 0).get(100);
+    private static final Color TRAIL_FAR = RenderResources.ramp(255, 255, 0).get(50);
+
     public Bullet(double x, double y, double velocityX, double velocityY) {
-        super(x, y, 9, 5, Color.YELLOW);
+        super(x, y, WIDTH, HEIGHT, Color.YELLOW);
         this.velocityX = velocityX;
         this.velocityY = velocityY;
     }
@@ -19,23 +28,29 @@ public class Bullet extends GameObject {
         y += velocityY;
     }
 
-    @Override
-    public void render(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
+    /**
+     * Draw a player bullet at the given position, leaving out the trail ovals when trail is false
+     * Static so projectiles stored outside of Bullet objects can share the look
+     */
+    public static void draw(Graphics2D g2d, double x, double y, boolean trail) {
+        int width = WIDTH;
+        int height = HEIGHT;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // Main bullet body
         g2d.setColor(Color.YELLOW);
-        g2d.fillOval((int)x, (int)y, (int)width, (int)height);
+        g2d.fillOval((int)x, (int)y, width, height);
 
         // Inner glow
         g2d.setColor(Color.WHITE);
-        g2d.fillOval((int)(x + 1), (int)(y + 1), (int)(width - 2), (int)(height - 2));
+        g2d.fillOval((int)(x + 1), (int)(y + 1), width - 2, height - 2);
+
+        if (!trail) return;
 
         // Trail effect
-        g2d.setColor(new Color(255, 255, 0, 100));
-        g2d.fillOval((int)(x - 4), (int)(y - 1), 4, (int)(height + 2));
-        g2d.setColor(new Color(255, 255, 0, 50));
-        g2d.fillOval((int)(x - 8), (int)(y - 2), 4, (int)(height + 4));
+        g2d.setColor(TRAIL_NEAR);
+        g2d.fillOval((int)(x - 4), (int)(y - 1), 4, height + 2);
+        g2d.setColor(TRAIL_FAR);
+        g2d.fillOval((int)(x - 8), (int)(y - 2), 4, height + 4);
     }
 }
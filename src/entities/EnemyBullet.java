@@ -1,5 +1,7 @@
 package entities;
 
+import graphics.RenderResources;
+
 import java.awt.*;
 
 /**
@@ -7,10 +9,17 @@ import java.awt.*;
  * Demonstrates inheritance and polymorphism
  */
 public class EnemyBullet extends GameObject {
+    public static final int WIDTH = 9;
+    public static final int HEIGHT = 5;
+
+    // Trail colors, shared instead of allocated per draw
+    private static final Color TRAIL_NEAR = RenderResources.ramp(255, 155, 0).get(120);
+    private static final Color TRAIL_FAR = RenderResources.ramp(255, 100, 0).get(60);
+
     private int damage;
 
     public EnemyBullet(double x, double y, double velocityX, double velocityY, int damage) {
-        super(x, y, 9, 5, Color.ORANGE);
+        super(x, y, WIDTH, HEIGHT, Color.ORANGE);
         this.velocityX = velocityX;
         this.velocityY = velocityY;
         this.damage = damage;
@@ -22,24 +31,30 @@ public class EnemyBullet extends GameObject {
         y += velocityY;
     }
 
-    @Override
-    public void render(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
+    /**
+     * Draw an enemy bullet at the given position, leaving out the trail ovals when trail is false
+     * Static so projectiles stored outside of EnemyBullet objects can share the look
+     */
+    public static void draw(Graphics2D g2d, double x, double y, boolean trail) {
+        int width = WIDTH;
+        int height = HEIGHT;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // Main bullet body
         g2d.setColor(Color.ORANGE);
-        g2d.fillOval((int)x, (int)y, (int)width, (int)height);
+        g2d.fillOval((int)x, (int)y, width, height);
 
         // Inner core
         g2d.setColor(Color.RED);
-        g2d.fillOval((int)(x + 1), (int)(y + 1), (int)(width - 2), (int)(height - 2));
+        g2d.fillOval((int)(x + 1), (int)(y + 1), width - 2, height - 2);
+
+        if (!trail) return;
 
         // Trail effect
-        g2d.setColor(new Color(255, 155, 0, 120));
-        g2d.fillOval((int)(x + width), (int)(y - 1), 4, (int)(height + 2));
-        g2d.setColor(new Color(255, 100, 0, 60));
-        g2d.fillOval((int)(x + width + 3), (int)(y - 2), 3, (int)(height + 4));
+        g2d.setColor(TRAIL_NEAR);
+        g2d.fillOval((int)(x + width), (int)(y - 1), 4, height + 2);
+        g2d.setColor(TRAIL_FAR);
+        g2d.fillOval((int)(x + width + 3), (int)(y - 2), 3, height + 4);
     }
 
     public int getDamage() {
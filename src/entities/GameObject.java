@@ -1,6 +1,9 @@
 package entities;
 
 import java.awt.*;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Abstract base class for all game objects
@@ -12,6 +15,9 @@ public abstract class GameObject {
     protected double velocityX, velocityY;
     protected Color color;
 
+    // Position at the start of the current simulation step, used for interpolation
+    protected double previousX, previousY;
+
     public GameObject(double x, double y, double width, double height, Color color) {
         this.x = x;
         this.y = y;
@@ -20,18 +26,64 @@ public abstract class GameObject {
         this.color = color;
         this.velocityX = 0;
         this.velocityY = 0;
+        this.previousX = x;
+        this.previousY = y;
     }
 
     // Abstract methods demonstrating polymorphism
     public abstract void update();
-    public abstract void render(Graphics g);
+
+    /**
+     * Remember the current position before the next simulation step
+     */
+    public void storePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Write position and velocity, for replay keyframes
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(previousX);
+        out.writeDouble(previousY);
+        out.writeDouble(velocityX);
+        out.writeDouble(velocityY);
+    }
+
+    public void readState(DataInput in) throws IOException {
+        x = in.readDouble();
+        y = in.readDouble();
+        previousX = in.readDouble();
+        previousY = in.readDouble();
+        velocityX = in.readDouble();
+        velocityY = in.readDouble();
+    }
+
+    /**
+     * Position blended between the previous and current step
+     */
+    public double getInterpolatedX(double interpolation) {
+        return previousX + (x - previousX) * interpolation;
+    }
+
+    public double getInterpolatedY(double interpolation) {
+        return previousY + (y - previousY) * interpolation;
+    }
 
     // Collision detection method
     public boolean collidesWith(GameObject other) {
-        return x < other.x + other.width &&
-                x + width > other.x &&
-                y < other.y + other.height &&
-                y + height > other.y;
+        return intersects(other.x, other.y, other.width, other.height);
+    }
+
+    // Collision against a plain box, for objects stored outside GameObject (e.g. projectiles)
+    public boolean intersects(double otherX, double otherY, double otherWidth, double otherHeight) {
+        return x < otherX + otherWidth &&
+                x + width > otherX &&
+                y < otherY + otherHeight &&
+                y + height > otherY;
     }
 
     // Encapsulation: Getters and setters
@@ -42,8 +94,8 @@ public abstract class GameObject {
     public double getVelocityX() { return velocityX; }
     public double getVelocityY() { return velocityY; }
 
-    public void setX(double x) { this.x = x; }
-    public void setY(double y) { this.y = y; }
+    public void setX(double x) { this.x = x; this.previousX = x; }
+    public void setY(double y) { this.y = y; this.previousY = y; }
     public void setVelocityX(double velocityX) { this.velocityX = velocityX; }
     public void setVelocityY(double velocityY) { this.velocityY = velocityY; }
 }
\ No newline at end of file
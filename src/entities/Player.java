@@ -2,8 +2,11 @@ package entities;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
+import engine.ProjectileBuffer;
+import managers.AssetRegistry;
 
 /**
  * Player class inheriting from GameObject
@@ -30,17 +33,11 @@ public class Player extends GameObject {
     }
 
     /**
-     * Load player sprite from assets, fallback to rectangle if not found
+     * Use the shared player sprite from the asset registry, fallback to rectangle if missing
      */
     private void loadSprite() {
-        try {
-            sprite = ImageIO.read(getClass().getResourceAsStream("/assets/sprites/player.png"));
-            useSprite = true;
-            System.out.println("Player sprite loaded successfully");
-        } catch (Exception e) {
-            useSprite = false;
-            System.out.println("Player sprite not found, using rectangle rendering");
-        }
+        sprite = AssetRegistry.getInstance().getImage(AssetRegistry.PLAYER_SPRITE);
+        useSprite = sprite != null;
     }
 
     @Override
@@ -65,48 +62,53 @@ public class Player extends GameObject {
         if (x > 1000 - width) x = 1000 - width;
     }
 
-    @Override
-    public void render(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        if (useSprite && sprite != null) {
-            // Render sprite
-            g2d.drawImage(sprite, (int)x, (int)y, (int)width, (int)height, null);
-        } else {
-            // Fallback to enhanced rectangle rendering
-            // Main body
-            g2d.setColor(Color.CYAN);
-            g2d.fillRect((int)x, (int)y, (int)width, (int)height);
-
-            // Cockpit
-            g2d.setColor(Color.BLUE);
-            g2d.fillRect((int)(x + width * 0.6), (int)(y + height * 0.3),
-                    (int)(width * 0.3), (int)(height * 0.4));
-
-            // Wings
-            g2d.setColor(Color.DARK_GRAY);
-            g2d.fillRect((int)(x + width * 0.2), (int)(y - 5),
-                    (int)(width * 0.4), 5);
-            g2d.fillRect((int)(x + width * 0.2), (int)(y + height),
-                    (int)(width * 0.4), 5);
-
-            // Engine glow
-            g2d.setColor(Color.ORANGE);
-            g2d.fillOval((int)(x - 8), (int)(y + height * 0.3),
-                    8, (int)(height * 0.4));
-            g2d.setColor(Color.YELLOW);
-            g2d.fillOval((int)(x - 6), (int)(y + height * 0.35),
-                    6, (int)(height * 0.3));
-
-            // Nose cone
-            g2d.setColor(Color.WHITE);
-            int[] xPoints = {(int)(x + width), (int)(x + width - 10), (int)(x + width)};
-            int[] yPoints = {(int)(y + height/2), (int)(y), (int)(y + height)};
-            g2d.fillPolygon(xPoints, yPoints, 3);
-        }
+    /**
+     * Procedural ship used when the sprite is missing; also rasterized into the sprite atlas
+     * Extends 5 px above and below the box and 8 px before its left edge.
+     */
+    public static void drawShip(Graphics2D g2d, double x, double y, double width, double height) {
+        // Main body
+        g2d.setColor(Color.CYAN);
+        g2d.fillRect((int)x, (int)y, (int)width, (int)height);
+
+        // Cockpit
+        g2d.setColor(Color.BLUE);
+        g2d.fillRect((int)(x + width * 0.6), (int)(y + height * 0.3),
+                (int)(width * 0.3), (int)(height * 0.4));
+
+        // Wings
+        g2d.setColor(Color.DARK_GRAY);
+        g2d.fillRect((int)(x + width * 0.2), (int)(y - 5),
+                (int)(width * 0.4), 5);
+        g2d.fillRect((int)(x + width * 0.2), (int)(y + height),
+                (int)(width * 0.4), 5);
+
+        // Engine glow
+        g2d.setColor(Color.ORANGE);
+        g2d.fillOval((int)(x - 8), (int)(y + height * 0.3),
+                8, (int)(height * 0.4));
+        g2d.setColor(Color.YELLOW);
+        g2d.fillOval((int)(x - 6), (int)(y + height * 0.35),
+                6, (int)(height * 0.3));
+
+        // Nose cone
+        g2d.setColor(Color.WHITE);
+        int[] xPoints = {(int)(x + width), (int)(x + width - 10), (int)(x + width)};
+        int[] yPoints = {(int)(y + height/2), (int)(y), (int)(y + height)};
+        g2d.fillPolygon(xPoints, yPoints, 3);
+    }
+
+    /**
+     * Shared player sprite, or null when the fallback ship is drawn
+     */
+    public BufferedImage getSprite() {
+        return useSprite ? sprite : null;
+    }
 
-        // Health indicator (small bar above player) - always show regardless of sprite
+    /**
+     * Small health bar above the ship, only shown once damaged
+     */
+    public void drawHealthBar(Graphics2D g2d, double x, double y) {
         if (health < MAX_HEALTH) {
             g2d.setColor(Color.RED);
             g2d.fillRect((int)x, (int)(y - 8), (int)width, 3);
@@ -132,13 +134,14 @@ public class Player extends GameObject {
         velocityX = SPEED;
     }
 
-    // Shooting method
-    public Bullet shoot() {
+    // Shooting method spawning straight into a projectile buffer, returns true if fired
+    public boolean shoot(ProjectileBuffer projectiles) {
         if (shootTimer <= 0) {
             shootTimer = SHOOT_COOLDOWN;
-            return new Bullet(x + width, y + height/2 - 2, 8, 0);
+            projectiles.spawn(x + width, y + height/2 - 2, 8, 0, 1, ProjectileBuffer.OWNER_PLAYER);
+            return true;
         }
-        return null;
+        return false;
     }
 
     // Health management
@@ -151,6 +154,20 @@ public class Player extends GameObject {
         return health;
     }
 
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(health);
+        out.writeInt(shootTimer);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        health = in.readInt();
+        shootTimer = in.readInt();
+    }
+
     public void resetState() {
         this.setVelocityX(0);
         this.setVelocityY(0);
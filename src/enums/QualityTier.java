@@ -0,0 +1,74 @@
+package enums;
+
+/**
+ * Visual quality levels, from everything on down to the cheapest look
+ * Each tier keeps the savings of the tiers above it and sheds one more cost.
+ */
+public enum QualityTier {
+    ULTRA("Ultra", true, true, 1.0f, 1.0f, true),
+    HIGH("High", false, true, 1.0f, 1.0f, true),           // antialiasing off
+    MEDIUM("Medium", false, false, 1.0f, 1.0f, true),      // bullet trails off
+    LOW("Low", false, false, 0.5f, 1.0f, true),            // half the stars
+    VERY_LOW("Very Low", false, false, 0.5f, 0.25f, true), // a quarter of the particles
+    MINIMAL("Minimal", false, false, 0.5f, 0.25f, false);  // no glow or shadow passes on text
+
+    private final String displayName;
+    private final boolean antialiasing;
+    private final boolean trails;
+    private final float starFraction;
+    private final float particleFraction;
+    private final boolean textEffects;
+
+    QualityTier(String displayName, boolean antialiasing, boolean trails,
+                float starFraction, float particleFraction, boolean textEffects) {
+        this.displayName = displayName;
+        this.antialiasing = antialiasing;
+        this.trails = trails;
+        this.starFraction = starFraction;
+        this.particleFraction = particleFraction;
+        this.textEffects = textEffects;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isAntialiasing() {
+        return antialiasing;
+    }
+
+    public boolean hasTrails() {
+        return trails;
+    }
+
+    public float getStarFraction() {
+        return starFraction;
+    }
+
+    public float getParticleFraction() {
+        return particleFraction;
+    }
+
+    /**
+     * Whether text is drawn with its extra glow and drop shadow passes
+     */
+    public boolean hasTextEffects() {
+        return textEffects;
+    }
+
+    /**
+     * How many of count items to draw at this tier, keeping at least one
+     */
+    public int particles(int count) {
+        return Math.max(1, Math.round(count * particleFraction));
+    }
+
+    public QualityTier lower() {
+        QualityTier[] tiers = values();
+        return ordinal() + 1 < tiers.length ? tiers[ordinal() + 1] : this;
+    }
+
+    public QualityTier higher() {
+        return ordinal() > 0 ? values()[ordinal() - 1] : this;
+    }
+}
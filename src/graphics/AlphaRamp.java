@@ -0,0 +1,47 @@
+package graphics;
+
+import java.awt.*;
+
+/**
+ * One RGB color at all 256 alpha levels
+ * Entries are created once (up front or on first use) and reused, so fading a color
+ * in or out never allocates while painting.
+ */
+public final class AlphaRamp {
+    private final int rgb;
+    private final Color[] steps = new Color[256];
+
+    AlphaRamp(int rgb, boolean precompute) {
+        this.rgb = rgb & 0xFFFFFF;
+        if (precompute) {
+            for (int alpha = 0; alpha < steps.length; alpha++) {
+                steps[alpha] = create(alpha);
+            }
+        }
+    }
+
+    /**
+     * The color at the given alpha, clamped to 0..255
+     */
+    public Color get(int alpha) {
+        int a = alpha < 0 ? 0 : (alpha > 255 ? 255 : alpha);
+        Color color = steps[a];
+        if (color == null) {
+            color = create(a);
+            steps[a] = color;
+        }
+        return color;
+    }
+
+    public Color opaque() {
+        return get(255);
+    }
+
+    public int getRGB() {
+        return rgb;
+    }
+
+    private Color create(int alpha) {
+        return new Color((alpha << 24) | rgb, true);
+    }
+}
@@ -1,71 +1,150 @@
 package graphics;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
 
+/**
+ * Scrolling parallax starfield shared by the gameplay and menu screens
+ * Stars are split into depth layers, each pre-rendered once into a screen-sized tile that wraps
+ * around horizontally. A layer's scroll offset is computed from elapsed time, so there is no
+ * per-star state to update and drawing a layer is at most two blits. The farthest layer is
+ * opaque black and doubles as the screen clear; nearer layers are bitmask images, so copying
+ * them needs no per-pixel blending. Lower quality tiers draw only a fraction of the stars.
+ */
 public class BackgroundStarField {
     private static final int PANEL_WIDTH = 1000;
     private static final int PANEL_HEIGHT = 600;
 
-    private List<Star> backgroundStars;
-    private int starCount;
+    public static final int DEFAULT_LAYERS = 3;
+
+    // Gameplay defaults: 1 to 4 pixels per 60 Hz tick
+    private static final float DEFAULT_MIN_SPEED = 60f;
+    private static final float DEFAULT_MAX_SPEED = 240f;
+    private static final int DEFAULT_MIN_BRIGHTNESS = 127;
+
+    private static final int MAX_STAR_SIZE = 3;
+
+    private final int starCount;
+    private final int layerCount;
+    private final float minSpeed;
+    private final float maxSpeed;
+    private final int minBrightness;
+
+    // Stars are regenerated from this seed whenever the tiles are rebuilt
+    private final long seed;
+
+    private BufferedImage[] tiles;
+    private float[] layerSpeeds;
+    private GraphicsConfiguration configuration;
+    private float builtStarFraction;
 
     public BackgroundStarField(int starCount) {
-        this.starCount = starCount;
-        backgroundStars = new ArrayList<>();
-        initializeStars();
+        this(starCount, new SplittableRandom());
     }
 
-    private void initializeStars() {
-        for (int i = 0; i < starCount; i++) {
-            backgroundStars.add(new Star());
-        }
+    /**
+     * Star field with the gameplay layers and speeds, placed from the given effects stream
+     */
+    public BackgroundStarField(int starCount, SplittableRandom random) {
+        this(starCount, DEFAULT_LAYERS, DEFAULT_MIN_SPEED, DEFAULT_MAX_SPEED, DEFAULT_MIN_BRIGHTNESS, random);
     }
 
-    public void update() {
-        for (Star star : backgroundStars) {
-            star.update();
-        }
+    /**
+     * @param starCount total stars across all layers
+     * @param layerCount number of depth layers, each scrolling at its own speed
+     * @param minSpeed speed of the farthest layer in pixels per second
+     * @param maxSpeed speed of the nearest layer in pixels per second
+     * @param minBrightness dimmest star gray level; stars range from this up to 255
+     * @param random source of the star layout (read once here)
+     */
+    public BackgroundStarField(int starCount, int layerCount, float minSpeed, float maxSpeed,
+                               int minBrightness, SplittableRandom random) {
+        this.starCount = Math.max(0, starCount);
+        this.layerCount = Math.max(1, layerCount);
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        this.minBrightness = Math.max(0, Math.min(255, minBrightness));
+        this.seed = random.nextLong();
     }
 
-    public void render(Graphics2D g2d) {
-        for (Star star : backgroundStars) {
-            star.render(g2d);
+    /**
+     * Draw every layer at its position after the given time
+     * This covers the whole screen, so anything drawn before it is hidden.
+     * @param seconds elapsed time; the same value always gives the same picture
+     */
+    public void render(Graphics2D g2d, double seconds) {
+        GraphicsConfiguration target = g2d.getDeviceConfiguration();
+        float starFraction = QualityGovernor.getInstance().getTier().getStarFraction();
+        if (tiles == null || configuration != target || builtStarFraction != starFraction) {
+            buildTiles(target, starFraction);
         }
-    }
 
-    private class Star {
-        private float x, y;
-        private float speed;
-        private int size;
-        private Color color;
+        // Farthest (slowest) layer first so nearer stars are drawn over it
+        for (int layer = 0; layer < layerCount; layer++) {
+            double distance = seconds * layerSpeeds[layer];
+            int offset = (int) (distance - Math.floor(distance / PANEL_WIDTH) * PANEL_WIDTH);
 
-        public Star() {
-            reset();
+            g2d.drawImage(tiles[layer], -offset, 0, null);
+            if (offset > 0) {
+                g2d.drawImage(tiles[layer], PANEL_WIDTH - offset, 0, null);
+            }
         }
+    }
 
-        private void reset() {
-            x = (float) (Math.random() * PANEL_WIDTH);
-            y = (float) (Math.random() * PANEL_HEIGHT);
-            speed = (float) (Math.random() * 3 + 1);
-            size = (int) (Math.random() * 3 + 1);
+    private void buildTiles(GraphicsConfiguration target, float starFraction) {
+        tiles = new BufferedImage[layerCount];
+        layerSpeeds = new float[layerCount];
+        Graphics2D[] layers = new Graphics2D[layerCount];
 
-            int brightness = (int) (Math.random() * 128 + 127);
-            color = new Color(brightness, brightness, brightness);
+        for (int layer = 0; layer < layerCount; layer++) {
+            tiles[layer] = createTile(target, layer == 0 ? Transparency.OPAQUE : Transparency.BITMASK);
+            layerSpeeds[layer] = minSpeed + (maxSpeed - minSpeed) * (layer + 0.5f) / layerCount;
+            layers[layer] = tiles[layer].createGraphics();
         }
+        layers[0].setColor(Color.BLACK);
+        layers[0].fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+
+        try {
+            // The same seed gives the same stars, so a lower density keeps a subset of the full field
+            SplittableRandom random = new SplittableRandom(seed);
+            int visibleStars = Math.round(starCount * starFraction);
+            for (int i = 0; i < visibleStars; i++) {
+                Graphics2D g2d = layers[random.nextInt(layerCount)];
+                int x = random.nextInt(PANEL_WIDTH);
+                int y = random.nextInt(PANEL_HEIGHT);
+                int size = 1 + random.nextInt(MAX_STAR_SIZE);
+                int brightness = minBrightness + random.nextInt(256 - minBrightness);
 
-        public void update() {
-            x -= speed;
-            if (x < -size) {
-                x = PANEL_WIDTH + size;
-                y = (float) (Math.random() * PANEL_HEIGHT);
+                g2d.setColor(RenderResources.gray(brightness));
+                g2d.fillOval(x, y, size, size);
+                // Stars crossing the right edge continue at the left so the tile wraps seamlessly
+                if (x + size > PANEL_WIDTH) {
+                    g2d.fillOval(x - PANEL_WIDTH, y, size, size);
+                }
+            }
+        } finally {
+            for (Graphics2D g2d : layers) {
+                g2d.dispose();
             }
         }
+        configuration = target;
+        builtStarFraction = starFraction;
+    }
 
-        public void render(Graphics2D g2d) {
-            g2d.setColor(color);
-            g2d.fillOval((int) x, (int) y, size, size);
+    private static BufferedImage createTile(GraphicsConfiguration target, int transparency) {
+        if (target == null) {
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            return new BufferedImage(PANEL_WIDTH, PANEL_HEIGHT, type);
         }
+        return target.createCompatibleImage(PANEL_WIDTH, PANEL_HEIGHT, transparency);
+    }
+
+    public int getStarCount() {
+        return starCount;
+    }
+
+    public int getLayerCount() {
+        return layerCount;
     }
 }
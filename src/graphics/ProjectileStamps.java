@@ -0,0 +1,97 @@
+package graphics;
+
+import engine.ProjectileBuffer;
+import entities.Bullet;
+import entities.EnemyBullet;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered bullet looks, one small translucent image per projectile owner
+ * Each stamp holds the body, glow and both trail ovals at their final alpha, rendered once
+ * with antialiasing through the bullets' own draw code. Drawing a bullet is then a single
+ * unscaled blit with no rendering hints, colors or shapes set per frame.
+ */
+public class ProjectileStamps {
+    // Room around the bullet box for the trails (up to 8 px on either side) and antialiased edges
+    public static final int MARGIN_X = 8;
+    public static final int MARGIN_Y = 3;
+
+    private final GraphicsConfiguration configuration;
+    private final BufferedImage[] stamps;
+    private final boolean trails;
+
+    private ProjectileStamps(GraphicsConfiguration configuration, BufferedImage[] stamps, boolean trails) {
+        this.configuration = configuration;
+        this.stamps = stamps;
+        this.trails = trails;
+    }
+
+    public static ProjectileStamps build(GraphicsConfiguration configuration) {
+        return build(configuration, true);
+    }
+
+    /**
+     * Render every stamp for the given screen
+     * @param configuration target screen, or null for plain ARGB stamps (headless)
+     * @param trails whether the stamps include the trail ovals
+     */
+    public static ProjectileStamps build(GraphicsConfiguration configuration, boolean trails) {
+        BufferedImage[] stamps = new BufferedImage[2];
+        stamps[ProjectileBuffer.OWNER_PLAYER] = createStamp(configuration, Bullet.WIDTH, Bullet.HEIGHT);
+        stamps[ProjectileBuffer.OWNER_ENEMY] = createStamp(configuration, EnemyBullet.WIDTH, EnemyBullet.HEIGHT);
+
+        Graphics2D g2d = stamps[ProjectileBuffer.OWNER_PLAYER].createGraphics();
+        try {
+            Bullet.draw(g2d, MARGIN_X, MARGIN_Y, trails);
+        } finally {
+            g2d.dispose();
+        }
+        g2d = stamps[ProjectileBuffer.OWNER_ENEMY].createGraphics();
+        try {
+            EnemyBullet.draw(g2d, MARGIN_X, MARGIN_Y, trails);
+        } finally {
+            g2d.dispose();
+        }
+        return new ProjectileStamps(configuration, stamps, trails);
+    }
+
+    private static BufferedImage createStamp(GraphicsConfiguration configuration, int width, int height) {
+        return SpriteAtlas.createImage(configuration, width + 2 * MARGIN_X, height + 2 * MARGIN_Y);
+    }
+
+    /**
+     * Draw one projectile with its box at (x, y)
+     */
+    public void draw(Graphics2D g2d, int owner, int x, int y) {
+        g2d.drawImage(stamps[owner], x - MARGIN_X, y - MARGIN_Y, null);
+    }
+
+    /**
+     * Queue every projectile in the buffer; the queue groups them by owner
+     */
+    public static void submitAll(RenderQueue queue, ProjectileBuffer projectiles, double interpolation) {
+        int count = projectiles.size();
+        for (int i = 0; i < count; i++) {
+            queue.add(RenderQueue.stampSprite(projectiles.getOwner(i)),
+                    projectiles.getInterpolatedX(i, interpolation), projectiles.getInterpolatedY(i, interpolation),
+                    RenderQueue.LAYER_PROJECTILES, RenderQueue.OPAQUE);
+        }
+    }
+
+    public int getStampWidth(int owner) {
+        return stamps[owner].getWidth();
+    }
+
+    public int getStampHeight(int owner) {
+        return stamps[owner].getHeight();
+    }
+
+    /**
+     * True if the stamps were built for this screen and trail setting and can be used as is
+     */
+    public boolean isCompatibleWith(GraphicsConfiguration other, boolean withTrails) {
+        return configuration == other && trails == withTrails;
+    }
+}
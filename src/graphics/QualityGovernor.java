@@ -0,0 +1,160 @@
+package graphics;
+
+import enums.QualityTier;
+
+import java.awt.*;
+
+/**
+ * Picks the visual quality tier from how long recent frames took to produce
+ * Screens report the work time of each frame (simulation plus painting). Once a full window
+ * of frames has been seen, the tier steps down if the window's average is over the frame
+ * budget. It steps back up only after several windows in a row stay well under budget.
+ * The wide gap between the two thresholds, plus the wait before stepping up, keeps the tier
+ * from flipping back and forth at the edge of the budget.
+ *
+ * A tier pinned from the options menu overrides the automatic choice. Used on the EDT only.
+ */
+public final class QualityGovernor {
+    private static QualityGovernor instance;
+
+    public static final long DEFAULT_BUDGET_NANOS = 1_000_000_000L / 60;
+
+    private static final int WINDOW = 60;             // frames per decision
+    private static final double UPGRADE_HEADROOM = 0.5; // step up only below half the budget
+    private static final int UPGRADE_WINDOWS = 3;     // consecutive quiet windows needed to step up
+
+    private final long budgetNanos;
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount = 0;
+    private int sampleIndex = 0;
+    private long sampleSum = 0;
+    private int quietWindows = 0;
+
+    private QualityTier autoTier = QualityTier.ULTRA;
+    private QualityTier pinnedTier = null;
+
+    // Statistics
+    private int downgrades = 0;
+    private int upgrades = 0;
+    private long lastChangeAverageNanos = 0;   // window average that caused the last tier change
+
+    private QualityGovernor(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    public static QualityGovernor getInstance() {
+        if (instance == null) {
+            instance = new QualityGovernor(DEFAULT_BUDGET_NANOS);
+        }
+        return instance;
+    }
+
+    /**
+     * Report how long one frame took to produce
+     */
+    public void recordFrame(long nanos) {
+        if (sampleCount == WINDOW) {
+            sampleSum -= samples[sampleIndex];
+        } else {
+            sampleCount++;
+        }
+        samples[sampleIndex] = nanos;
+        sampleSum += nanos;
+        sampleIndex = (sampleIndex + 1) % WINDOW;
+
+        if (sampleCount == WINDOW) {
+            evaluate();
+        }
+    }
+
+    private void evaluate() {
+        long average = sampleSum / WINDOW;
+        if (average > budgetNanos) {
+            quietWindows = 0;
+            if (autoTier != autoTier.lower()) {
+                autoTier = autoTier.lower();
+                downgrades++;
+                lastChangeAverageNanos = average;
+            }
+            clearWindow();
+        } else if (average < budgetNanos * UPGRADE_HEADROOM) {
+            quietWindows++;
+            if (quietWindows >= UPGRADE_WINDOWS && autoTier != autoTier.higher()) {
+                autoTier = autoTier.higher();
+                upgrades++;
+                quietWindows = 0;
+                lastChangeAverageNanos = average;
+            }
+            clearWindow();
+        } else {
+            // Within budget but without headroom: hold the tier and start counting quiet windows again
+            quietWindows = 0;
+        }
+    }
+
+    // Every decision is made on a window of frames taken entirely after the previous decision
+    private void clearWindow() {
+        sampleCount = 0;
+        sampleIndex = 0;
+        sampleSum = 0;
+    }
+
+    /**
+     * Tier to draw with: the pinned tier if there is one, otherwise the automatic choice
+     */
+    public QualityTier getTier() {
+        return pinnedTier != null ? pinnedTier : autoTier;
+    }
+
+    public QualityTier getAutoTier() {
+        return autoTier;
+    }
+
+    /**
+     * Pinned tier, or null when the tier is chosen automatically
+     */
+    public QualityTier getPinnedTier() {
+        return pinnedTier;
+    }
+
+    /**
+     * Fix the tier, or pass null to go back to automatic selection
+     */
+    public void setPinnedTier(QualityTier tier) {
+        pinnedTier = tier;
+    }
+
+    /**
+     * Set antialiasing for shapes and text according to the current tier
+     */
+    public void applyHints(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, getTier().isAntialiasing()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Average of the frames in the current window, or 0 if it is empty
+     */
+    public long getAverageFrameNanos() {
+        return sampleCount == 0 ? 0 : sampleSum / sampleCount;
+    }
+
+    public int getDowngrades() {
+        return downgrades;
+    }
+
+    public int getUpgrades() {
+        return upgrades;
+    }
+
+    /**
+     * Average frame time of the window that caused the last automatic tier change, or 0 if none did
+     */
+    public long getLastChangeAverageNanos() {
+        return lastChangeAverageNanos;
+    }
+}
@@ -0,0 +1,262 @@
+package graphics;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Per-frame list of compact draw commands, sorted by layer and then material and drawn in one pass
+ * A command is a sprite id, a position, a layer and a tint, stored in reused primitive arrays.
+ * Commands whose bounds miss the viewport are dropped when submitted. Sorting groups every
+ * command of a material together, so fonts, colors, hints and composites are set once per run
+ * instead of once per object; within a run commands keep their submission order.
+ *
+ * Sprite ids name a cell of the sprite atlas, a projectile stamp or an enemy level label (see
+ * atlasSprite, stampSprite and labelSprite). Atlas cells and stamps take the tint's alpha only,
+ * since their colors are baked in; labels are drawn in the tint color.
+ */
+public class RenderQueue {
+    // Layers, drawn from lowest to highest
+    public static final int LAYER_PROJECTILES = 0;
+    public static final int LAYER_SHIPS = 1;
+    public static final int LAYER_LABELS = 2;
+
+    public static final int OPAQUE = 0xFFFFFFFF;
+
+    // Materials: the source a sprite id points into
+    private static final int MATERIAL_ATLAS = 0;
+    private static final int MATERIAL_STAMP = 1;
+    private static final int MATERIAL_LABEL = 2;
+
+    private static final int MATERIAL_SHIFT = 24;
+    private static final int INDEX_MASK = (1 << MATERIAL_SHIFT) - 1;
+
+    private static final Font LABEL_FONT = RenderResources.font(Font.BOLD, 10);
+    // Generous label box for culling: "L99" in the label font fits well inside it
+    private static final int LABEL_WIDTH = 40;
+    private static final int LABEL_ASCENT = 12;
+    private static final int LABEL_DESCENT = 4;
+
+    private final int viewportWidth;
+    private final int viewportHeight;
+
+    private int[] sprites = new int[256];
+    private int[] xs = new int[256];
+    private int[] ys = new int[256];
+    private int[] tints = new int[256];
+    private long[] keys = new long[256];
+    private int count;
+
+    private SpriteAtlas atlas;
+    private ProjectileStamps stamps;
+
+    // "L1", "L2", ... built once per level instead of per enemy per frame
+    private String[] levelLabels = new String[0];
+    private final AlphaComposite[] composites = new AlphaComposite[256];
+
+    // Statistics for the last flushed frame
+    private int lastSubmitted;
+    private int lastCulled;
+    private int lastStateChanges;
+    private int culled;
+
+    public RenderQueue(int viewportWidth, int viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    public static int atlasSprite(int region) {
+        return (MATERIAL_ATLAS << MATERIAL_SHIFT) | region;
+    }
+
+    public static int stampSprite(int owner) {
+        return (MATERIAL_STAMP << MATERIAL_SHIFT) | owner;
+    }
+
+    public static int labelSprite(int level) {
+        return (MATERIAL_LABEL << MATERIAL_SHIFT) | level;
+    }
+
+    /**
+     * Start a frame with the given sprite sources; anything still queued is discarded
+     */
+    public void begin(SpriteAtlas atlas, ProjectileStamps stamps) {
+        this.atlas = atlas;
+        this.stamps = stamps;
+        count = 0;
+        culled = 0;
+    }
+
+    /**
+     * Queue one sprite with its box (ship box, bullet box or label baseline) at (x, y)
+     * @return false if the sprite was off screen and dropped
+     */
+    public boolean add(int sprite, double x, double y, int layer, int tint) {
+        int ix = (int) x;
+        int iy = (int) y;
+        if (!isVisible(sprite, ix, iy)) {
+            culled++;
+            return false;
+        }
+
+        if (count == sprites.length) {
+            int capacity = count * 2;
+            sprites = Arrays.copyOf(sprites, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            tints = Arrays.copyOf(tints, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        sprites[count] = sprite;
+        xs[count] = ix;
+        ys[count] = iy;
+        tints[count] = tint;
+        // Layer, then material, then submission order; the low bits index back into the columns
+        keys[count] = ((long) layer << 40) | ((long) (sprite >>> MATERIAL_SHIFT) << 32) | count;
+        count++;
+        return true;
+    }
+
+    private boolean isVisible(int sprite, int x, int y) {
+        int left, top, width, height;
+        int index = sprite & INDEX_MASK;
+        switch (sprite >>> MATERIAL_SHIFT) {
+            case MATERIAL_ATLAS:
+                left = x - SpriteAtlas.MARGIN;
+                top = y - SpriteAtlas.MARGIN;
+                width = atlas.getCellWidth();
+                height = atlas.getCellHeight();
+                break;
+            case MATERIAL_STAMP:
+                left = x - ProjectileStamps.MARGIN_X;
+                top = y - ProjectileStamps.MARGIN_Y;
+                width = stamps.getStampWidth(index);
+                height = stamps.getStampHeight(index);
+                break;
+            default:
+                left = x;
+                top = y - LABEL_ASCENT;
+                width = LABEL_WIDTH;
+                height = LABEL_ASCENT + LABEL_DESCENT;
+                break;
+        }
+        return left < viewportWidth && top < viewportHeight && left + width > 0 && top + height > 0;
+    }
+
+    /**
+     * Sort and draw everything queued, then empty the queue
+     * The graphics' composite, color, font and antialiasing hint are restored afterwards.
+     */
+    public void flush(Graphics2D g2d) {
+        Arrays.sort(keys, 0, count);
+
+        Composite savedComposite = g2d.getComposite();
+        Color savedColor = g2d.getColor();
+        Font savedFont = g2d.getFont();
+        Object savedAntialiasing = g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+
+        int material = -1;
+        int alpha = 255;
+        int labelColor = 0;
+        int stateChanges = 0;
+        try {
+            for (int k = 0; k < count; k++) {
+                int i = (int) (keys[k] & 0xFFFFFFFFL);
+                int sprite = sprites[i];
+                int tint = tints[i];
+                int spriteMaterial = sprite >>> MATERIAL_SHIFT;
+
+                if (spriteMaterial != material) {
+                    material = spriteMaterial;
+                    stateChanges++;
+                    if (material == MATERIAL_LABEL) {
+                        // Labels carry their alpha in the color, so drop any sprite composite
+                        if (alpha != 255) {
+                            g2d.setComposite(savedComposite);
+                            alpha = 255;
+                        }
+                        QualityGovernor.getInstance().applyHints(g2d);
+                        g2d.setFont(LABEL_FONT);
+                        labelColor = tint;
+                        g2d.setColor(labelColor(tint));
+                    }
+                }
+
+                if (material == MATERIAL_LABEL) {
+                    if (tint != labelColor) {
+                        labelColor = tint;
+                        g2d.setColor(labelColor(tint));
+                        stateChanges++;
+                    }
+                    g2d.drawString(levelLabel(sprite & INDEX_MASK), xs[i], ys[i]);
+                    continue;
+                }
+
+                int tintAlpha = tint >>> 24;
+                if (tintAlpha != alpha) {
+                    alpha = tintAlpha;
+                    g2d.setComposite(alpha == 255 ? savedComposite : composite(alpha));
+                    stateChanges++;
+                }
+                if (material == MATERIAL_ATLAS) {
+                    atlas.draw(g2d, sprite & INDEX_MASK, xs[i], ys[i]);
+                } else {
+                    stamps.draw(g2d, sprite & INDEX_MASK, xs[i], ys[i]);
+                }
+            }
+        } finally {
+            g2d.setComposite(savedComposite);
+            g2d.setColor(savedColor);
+            g2d.setFont(savedFont);
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, savedAntialiasing);
+        }
+
+        lastSubmitted = count;
+        lastCulled = culled;
+        lastStateChanges = stateChanges;
+        count = 0;
+        culled = 0;
+    }
+
+    private static Color labelColor(int tint) {
+        return RenderResources.ramp((tint >> 16) & 0xFF, (tint >> 8) & 0xFF, tint & 0xFF).get(tint >>> 24);
+    }
+
+    private AlphaComposite composite(int alpha) {
+        AlphaComposite composite = composites[alpha];
+        if (composite == null) {
+            composite = AlphaComposite.SrcOver.derive(alpha / 255f);
+            composites[alpha] = composite;
+        }
+        return composite;
+    }
+
+    private String levelLabel(int level) {
+        if (level >= levelLabels.length) {
+            int previous = levelLabels.length;
+            levelLabels = Arrays.copyOf(levelLabels, Math.max(level + 1, previous * 2));
+            for (int l = previous; l < levelLabels.length; l++) {
+                levelLabels[l] = "L" + l;
+            }
+        }
+        return levelLabels[level];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getLastSubmitted() {
+        return lastSubmitted;
+    }
+
+    public int getLastCulled() {
+        return lastCulled;
+    }
+
+    /**
+     * Material, color and composite switches made by the last flush
+     */
+    public int getLastStateChanges() {
+        return lastStateChanges;
+    }
+}
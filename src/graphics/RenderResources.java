@@ -0,0 +1,110 @@
+package graphics;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared painting resources for every screen and entity
+ * Fonts are interned, every theme color has a precomputed alpha ramp, and fading gradients
+ * are cached per alpha. Look resources up once (in a constructor or field) and keep the
+ * reference; painting code then sets fonts, colors and paints without allocating.
+ */
+public final class RenderResources {
+    public static final String UI_FONT_FAMILY = "Arial";
+
+    // Theme colors used across the menus, overlays and HUD
+    public static final AlphaRamp WHITE = themed(255, 255, 255);
+    public static final AlphaRamp CYAN = themed(0, 255, 255);
+    public static final AlphaRamp SOFT_YELLOW = themed(255, 255, 100);
+    public static final AlphaRamp SOFT_RED = themed(255, 100, 100);
+    public static final AlphaRamp SOFT_GREEN = themed(100, 255, 100);
+    public static final AlphaRamp LIGHT_GRAY = themed(200, 200, 200);
+    public static final AlphaRamp DIM_GRAY = themed(100, 100, 100);
+    public static final AlphaRamp DEEP_BLUE = themed(0, 50, 100);
+    public static final AlphaRamp NAVY = themed(0, 0, 50);
+
+    private static final Map<String, Font> fonts = new HashMap<>();
+    private static final Map<Integer, AlphaRamp> ramps = new HashMap<>();
+    private static final Color[] grays = new Color[256];
+
+    private RenderResources() {
+    }
+
+    private static AlphaRamp themed(int r, int g, int b) {
+        return new AlphaRamp((r << 16) | (g << 8) | b, true);
+    }
+
+    /**
+     * Interned font of the UI family
+     */
+    public static Font font(int style, int size) {
+        return font(UI_FONT_FAMILY, style, size);
+    }
+
+    public static synchronized Font font(String family, int style, int size) {
+        String key = family + '/' + style + '/' + size;
+        Font font = fonts.get(key);
+        if (font == null) {
+            font = new Font(family, style, size);
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /**
+     * Interned alpha ramp for any color; steps are filled on first use
+     */
+    public static synchronized AlphaRamp ramp(int r, int g, int b) {
+        int rgb = (r << 16) | (g << 8) | b;
+        AlphaRamp ramp = ramps.get(rgb);
+        if (ramp == null) {
+            ramp = new AlphaRamp(rgb, false);
+            ramps.put(rgb, ramp);
+        }
+        return ramp;
+    }
+
+    /**
+     * Opaque gray of the given brightness
+     */
+    public static synchronized Color gray(int brightness) {
+        int level = brightness < 0 ? 0 : (brightness > 255 ? 255 : brightness);
+        Color color = grays[level];
+        if (color == null) {
+            color = new Color(level, level, level);
+            grays[level] = color;
+        }
+        return color;
+    }
+
+    /**
+     * Linear gradient between two ramps whose alpha fades together
+     * Paints are built on first use of each alpha and then reused.
+     */
+    public static final class GradientRamp {
+        private final float x1, y1, x2, y2;
+        private final AlphaRamp from;
+        private final AlphaRamp to;
+        private final GradientPaint[] steps = new GradientPaint[256];
+
+        public GradientRamp(float x1, float y1, AlphaRamp from, float x2, float y2, AlphaRamp to) {
+            this.x1 = x1;
+            this.y1 = y1;
+            this.x2 = x2;
+            this.y2 = y2;
+            this.from = from;
+            this.to = to;
+        }
+
+        public GradientPaint get(int alpha) {
+            int a = alpha < 0 ? 0 : (alpha > 255 ? 255 : alpha);
+            GradientPaint paint = steps[a];
+            if (paint == null) {
+                paint = new GradientPaint(x1, y1, from.get(a), x2, y2, to.get(a));
+                steps[a] = paint;
+            }
+            return paint;
+        }
+    }
+}
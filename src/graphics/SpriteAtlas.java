@@ -0,0 +1,168 @@
+package graphics;
+
+import entities.Enemy;
+import entities.Player;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * One display-compatible image holding every ship look, pre-scaled to its on-screen size
+ * Cells are laid out in a row; each holds a ship box plus a margin for parts drawn outside the box
+ * (wings, engine glow). Drawing a cell is a 1:1 copy, so Java2D never rescales or converts
+ * formats per frame and can keep the atlas in video memory.
+ */
+public class SpriteAtlas {
+    public static final int MARGIN = 8;
+
+    private final GraphicsConfiguration configuration;
+    private final BufferedImage image;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    private final int playerRegion;
+    private final int enemySpriteRegion; // -1 when the enemy sprite is missing
+    private final int[] enemyShipRegions; // fallback ship per level color
+
+    private SpriteAtlas(GraphicsConfiguration configuration, BufferedImage image, int cellWidth, int cellHeight,
+                        int playerRegion, int enemySpriteRegion, int[] enemyShipRegions) {
+        this.configuration = configuration;
+        this.image = image;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.playerRegion = playerRegion;
+        this.enemySpriteRegion = enemySpriteRegion;
+        this.enemyShipRegions = enemyShipRegions;
+    }
+
+    /**
+     * Rasterize every ship for the given screen
+     * @param configuration target screen, or null for a plain ARGB atlas (headless)
+     * @param playerSprite decoded player sprite, or null to use the procedural ship
+     * @param enemySprite decoded enemy sprite, or null
+     */
+    public static SpriteAtlas build(GraphicsConfiguration configuration, BufferedImage playerSprite,
+                                    BufferedImage enemySprite, int shipWidth, int shipHeight) {
+        int cellWidth = shipWidth + 2 * MARGIN;
+        int cellHeight = shipHeight + 2 * MARGIN;
+        int cells = 1 + (enemySprite != null ? 1 : 0) + Enemy.LEVEL_COLOR_COUNT;
+
+        BufferedImage image = createImage(configuration, cellWidth * cells, cellHeight);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+            int cell = 0;
+            int playerRegion = cell++;
+            if (playerSprite != null) {
+                g2d.drawImage(scale(playerSprite, shipWidth, shipHeight), originX(playerRegion, cellWidth), MARGIN, null);
+            } else {
+                Player.drawShip(g2d, originX(playerRegion, cellWidth), MARGIN, shipWidth, shipHeight);
+            }
+
+            int enemySpriteRegion = -1;
+            if (enemySprite != null) {
+                enemySpriteRegion = cell++;
+                g2d.drawImage(scale(enemySprite, shipWidth, shipHeight), originX(enemySpriteRegion, cellWidth), MARGIN, null);
+            }
+
+            int[] enemyShipRegions = new int[Enemy.LEVEL_COLOR_COUNT];
+            for (int c = 0; c < enemyShipRegions.length; c++) {
+                enemyShipRegions[c] = cell++;
+                Enemy.drawShip(g2d, originX(enemyShipRegions[c], cellWidth), MARGIN, shipWidth, shipHeight,
+                        Enemy.getLevelColor(c + 1));
+            }
+
+            return new SpriteAtlas(configuration, image, cellWidth, cellHeight,
+                    playerRegion, enemySpriteRegion, enemyShipRegions);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Translucent image in the screen's native format, or plain premultiplied ARGB without a screen
+     */
+    public static BufferedImage createImage(GraphicsConfiguration configuration, int width, int height) {
+        if (configuration != null) {
+            return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * High-quality downscale: halve with bilinear filtering until within 2x, then one bicubic pass
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        while (w / 2 >= width && h / 2 >= height) {
+            w /= 2;
+            h /= 2;
+            current = resample(current, w, h, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return resample(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage resample(BufferedImage source, int width, int height, Object interpolation) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+
+    private static int originX(int region, int cellWidth) {
+        return region * cellWidth + MARGIN;
+    }
+
+    /**
+     * Copy one cell so its ship box lands at (x, y)
+     */
+    public void draw(Graphics2D g2d, int region, int x, int y) {
+        int sx = region * cellWidth;
+        int dx = x - MARGIN;
+        int dy = y - MARGIN;
+        g2d.drawImage(image, dx, dy, dx + cellWidth, dy + cellHeight, sx, 0, sx + cellWidth, cellHeight, null);
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    public int getPlayerRegion() {
+        return playerRegion;
+    }
+
+    /**
+     * Sprite when available, otherwise the fallback ship in the level's color
+     */
+    public int getEnemyRegion(int level) {
+        if (enemySpriteRegion >= 0) {
+            return enemySpriteRegion;
+        }
+        return enemyShipRegions[(level - 1) % Enemy.LEVEL_COLOR_COUNT];
+    }
+
+    /**
+     * True if the atlas was built for this screen and can be used as is
+     */
+    public boolean isCompatibleWith(GraphicsConfiguration other) {
+        return configuration == other;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,185 @@
+package managers;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Build-time tool that bakes every sprite and sound effect into one AssetPack file
+ * Sprites are decoded and converted to premultiplied ARGB, sounds are decoded and resampled to
+ * the mixer's format, so the game maps the result instead of parsing PNG and WAV files.
+ * Music is left out: it is streamed from its own file while it plays. Assets that are missing
+ * are skipped, and the game falls back to its per-file loaders for them.
+ *
+ * Usage: java managers.AssetBaker [output file], by default resources/assets.pack
+ */
+public final class AssetBaker {
+    private static final String DEFAULT_OUTPUT = "resources/assets.pack";
+
+    /**
+     * One asset converted to its baked form
+     */
+    private static class Baked {
+        final byte type;
+        final byte[] path;
+        final int width;
+        final int height;
+        final long sourceLength;
+        final int sourceCrc;
+        final ByteBuffer data;
+
+        Baked(byte type, String path, int width, int height, byte[] source, ByteBuffer data) {
+            this.type = type;
+            this.path = path.getBytes(StandardCharsets.UTF_8);
+            this.width = width;
+            this.height = height;
+            CRC32 crc = new CRC32();
+            crc.update(source);
+            this.sourceLength = source.length;
+            this.sourceCrc = (int) crc.getValue();
+            this.data = data;
+        }
+    }
+
+    private final List<Baked> assets = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+
+        AssetBaker baker = new AssetBaker();
+        try {
+            for (String path : AssetRegistry.getSpritePaths()) {
+                baker.addSprite(path);
+            }
+            for (String name : SoundManager.getSoundNames()) {
+                baker.addSound(name, SoundManager.getSoundFile(name));
+            }
+            long bytes = baker.write(output);
+            System.out.println("Baked " + baker.assets.size() + " assets into " + output + " (" + bytes / 1024 + " KB)");
+        } catch (IOException | UnsupportedAudioFileException e) {
+            System.err.println("Asset baking failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void addSprite(String path) throws IOException {
+        byte[] source = readResource(path);
+        if (source == null) {
+            System.err.println("Skipping missing sprite " + path);
+            return;
+        }
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(source));
+        if (decoded == null) {
+            throw new IOException(path + ": unsupported image format");
+        }
+
+        int width = decoded.getWidth();
+        int height = decoded.getHeight();
+        BufferedImage premultiplied = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = premultiplied.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(decoded, 0, 0, null);
+        g2d.dispose();
+
+        int[] pixels = ((DataBufferInt) premultiplied.getRaster().getDataBuffer()).getData();
+        ByteBuffer data = ByteBuffer.allocate(pixels.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        data.asIntBuffer().put(pixels);
+        assets.add(new Baked(AssetPack.SPRITE, path, width, height, source, data));
+    }
+
+    private void addSound(String name, String path) throws IOException, UnsupportedAudioFileException {
+        byte[] source = readResource(path);
+        if (source == null) {
+            System.err.println("Skipping missing sound " + path);
+            return;
+        }
+        SoundSample sample = SoundSample.decode(name, new ByteArrayInputStream(source));
+
+        ShortBuffer samples = sample.getSamples().duplicate();
+        samples.clear();
+        ByteBuffer data = ByteBuffer.allocate(samples.remaining() * 2).order(ByteOrder.LITTLE_ENDIAN);
+        data.asShortBuffer().put(samples);
+        assets.add(new Baked(AssetPack.SOUND, path, sample.getFrameCount(), AudioMixer.CHANNELS, source, data));
+    }
+
+    /**
+     * Raw bytes of a classpath resource, or null if it does not exist
+     */
+    private static byte[] readResource(String path) throws IOException {
+        try (InputStream in = AssetBaker.class.getResourceAsStream(path)) {
+            return in != null ? in.readAllBytes() : null;
+        }
+    }
+
+    /**
+     * Write the index and the data blocks, replacing the output file only once it is complete
+     * @return size of the pack in bytes
+     */
+    private long write(Path output) throws IOException {
+        int indexBytes = 12;
+        for (Baked asset : assets) {
+            indexBytes += 1 + 2 + asset.path.length + 4 + 4 + 8 + 4 + 8 + 8;
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(indexBytes).order(ByteOrder.LITTLE_ENDIAN);
+        index.putInt(AssetPack.MAGIC).putInt(AssetPack.VERSION).putInt(assets.size());
+        long offset = align(indexBytes);
+        for (Baked asset : assets) {
+            index.put(asset.type).putShort((short) asset.path.length).put(asset.path);
+            index.putInt(asset.width).putInt(asset.height);
+            index.putLong(asset.sourceLength).putInt(asset.sourceCrc);
+            index.putLong(offset).putLong(asset.data.capacity());
+            offset = align(offset + asset.data.capacity());
+        }
+        index.flip();
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "assets", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(channel, index, 0);
+                long position = align(indexBytes);
+                for (Baked asset : assets) {
+                    asset.data.clear();
+                    writeFully(channel, asset.data, position);
+                    position = align(position + asset.data.capacity());
+                }
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return Files.size(output);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + AssetPack.ALIGNMENT - 1) / AssetPack.ALIGNMENT * AssetPack.ALIGNMENT;
+    }
+}
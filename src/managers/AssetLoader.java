@@ -0,0 +1,170 @@
+package managers;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes every sound and sprite in parallel on a small worker pool at startup
+ * The UI polls progress while loading runs, and whenReady() is the barrier gameplay waits
+ * behind. Assets are queued largest first, so the longest decodes start earliest. Music is
+ * not loaded here; it streams while it plays. A failed asset still counts as done; its owner
+ * already falls back to silence or to shape rendering.
+ */
+public class AssetLoader {
+    private static final String THREAD_NAME = "asset-loader-";
+
+    /**
+     * One asset to decode
+     */
+    private static class Task {
+        final String name;
+        final Runnable body;
+
+        Task(String name, Runnable body) {
+            this.name = name;
+            this.body = body;
+        }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final int threadCount;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final List<Runnable> readyActions = new ArrayList<>();
+
+    private volatile String lastLoaded = "";
+    private volatile long elapsedNanos;
+    private long startNanos;
+    private boolean started = false;
+
+    public AssetLoader(SoundManager sounds, AssetRegistry images) {
+        this(sounds, images, Runtime.getRuntime().availableProcessors());
+    }
+
+    public AssetLoader(SoundManager sounds, AssetRegistry images, int maxThreads) {
+        for (String soundName : SoundManager.getSoundNames()) {
+            tasks.add(new Task(soundName, () -> sounds.loadSound(soundName)));
+        }
+        for (String path : AssetRegistry.getSpritePaths()) {
+            tasks.add(new Task(path.substring(path.lastIndexOf('/') + 1), () -> images.getImage(path)));
+        }
+        this.threadCount = Math.max(1, Math.min(maxThreads, tasks.size()));
+    }
+
+    /**
+     * Queue every asset on the worker pool and return immediately
+     */
+    public synchronized void start() {
+        if (started) return;
+        started = true;
+        startNanos = System.nanoTime();
+        if (tasks.isEmpty()) {
+            finish();
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Task task : tasks) {
+            pool.execute(() -> run(task));
+        }
+        // Workers finish the queue and then exit
+        pool.shutdown();
+    }
+
+    private void run(Task task) {
+        try {
+            task.body.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error loading asset " + task.name + ": " + e.getMessage());
+        } finally {
+            lastLoaded = task.name;
+            if (completed.incrementAndGet() == tasks.size()) {
+                finish();
+            }
+        }
+    }
+
+    private void finish() {
+        elapsedNanos = System.nanoTime() - startNanos;
+        List<Runnable> actions;
+        synchronized (this) {
+            ready.countDown();
+            actions = new ArrayList<>(readyActions);
+            readyActions.clear();
+        }
+        for (Runnable action : actions) {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+
+    /**
+     * Run an action on the EDT once every asset is loaded; right away if that has already happened
+     */
+    public void whenReady(Runnable action) {
+        synchronized (this) {
+            if (!isReady()) {
+                readyActions.add(action);
+                return;
+            }
+        }
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+
+    /**
+     * Block until every asset is loaded; not for use on the EDT
+     */
+    public void awaitReady() throws InterruptedException {
+        ready.await();
+    }
+
+    public boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    /**
+     * Fraction of assets done, from 0 to 1
+     */
+    public double getProgress() {
+        return tasks.isEmpty() ? 1.0 : (double) completed.get() / tasks.size();
+    }
+
+    public int getLoadedCount() {
+        return completed.get();
+    }
+
+    public int getTotalCount() {
+        return tasks.size();
+    }
+
+    /**
+     * Name of the asset that finished most recently
+     */
+    public String getLastLoaded() {
+        return lastLoaded;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Time from start() until the last asset was done, or 0 while still loading
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
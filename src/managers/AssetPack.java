@@ -0,0 +1,269 @@
+package managers;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of the baked asset pack, one file holding every sprite and sound effect in
+ * the format the game uses
+ * Sprites are premultiplied ARGB pixels and sounds are the mixer's native PCM, so nothing is
+ * parsed or converted at startup. The file is memory-mapped: sound samples are views straight
+ * into the mapping, paged in by the OS when first played. Sprite pixels are copied once into
+ * a BufferedImage, because Java2D only accelerates images it allocated itself.
+ * Entries are keyed by the resource path they were baked from and remember that file's length
+ * and CRC32. An entry whose source file has changed since baking is treated as missing, so the
+ * per-file loaders take over until AssetBaker is run again; without a pack they are used for all.
+ *
+ * Layout, little-endian: magic, version, entry count; per entry its type, path, two size
+ * fields, the source's length and CRC32, and the offset and length of its data; then the data
+ * blocks, 8-byte aligned.
+ */
+public final class AssetPack {
+    public static final String RESOURCE = "/assets.pack";
+
+    static final int MAGIC = 0x4B415053;   // "SPAK"
+    static final int VERSION = 2;
+    static final byte SPRITE = 1;          // sizes are width and height
+    static final byte SOUND = 2;           // sizes are frame count and channels
+    static final int ALIGNMENT = 8;
+
+    private static AssetPack defaultPack;
+    private static boolean defaultLocated = false;
+
+    /**
+     * Index record for one asset
+     */
+    private static class Entry {
+        final byte type;
+        final int width;
+        final int height;
+        final long sourceLength;
+        final int sourceCrc;
+        final int offset;
+        final int length;
+
+        Entry(byte type, int width, int height, long sourceLength, int sourceCrc, int offset, int length) {
+            this.type = type;
+            this.width = width;
+            this.height = height;
+            this.sourceLength = sourceLength;
+            this.sourceCrc = sourceCrc;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private final Path path;
+    private final MappedByteBuffer data;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private AssetPack(Path path, MappedByteBuffer data) throws IOException {
+        this.path = path;
+        this.data = data;
+        try {
+            readIndex(data.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("truncated index");
+        }
+    }
+
+    /**
+     * Map a pack file; the mapping stays valid after the file is closed
+     */
+    public static AssetPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("pack larger than 2 GB");
+            }
+            return new AssetPack(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * The pack named by -Dassets.pack, or else the one on the classpath
+     * @return null if there is none or it cannot be mapped; callers load individual files then
+     */
+    public static synchronized AssetPack getDefault() {
+        if (!defaultLocated) {
+            defaultLocated = true;
+            defaultPack = locate();
+        }
+        return defaultPack;
+    }
+
+    private static AssetPack locate() {
+        Path path;
+        String override = System.getProperty("assets.pack");
+        if (override != null) {
+            path = Paths.get(override);
+        } else {
+            URL url = AssetPack.class.getResource(RESOURCE);
+            if (url == null) {
+                return null;   // not baked
+            }
+            if (!"file".equals(url.getProtocol())) {
+                // Inside a jar there is no file to map
+                System.err.println("Asset pack " + url + " is not a plain file. Loading individual assets.");
+                return null;
+            }
+            try {
+                path = Paths.get(url.toURI());
+            } catch (URISyntaxException e) {
+                return null;
+            }
+        }
+
+        try {
+            return open(path);
+        } catch (IOException e) {
+            System.err.println("Could not open asset pack " + path + ": " + e.getMessage()
+                    + ". Loading individual assets.");
+            return null;
+        }
+    }
+
+    private void readIndex(ByteBuffer index) throws IOException {
+        if (index.remaining() < 12 || index.getInt() != MAGIC) {
+            throw new IOException("not an asset pack");
+        }
+        int version = index.getInt();
+        if (version != VERSION) {
+            throw new IOException("pack version " + version + ", expected " + VERSION);
+        }
+        int count = index.getInt();
+        for (int i = 0; i < count; i++) {
+            byte type = index.get();
+            byte[] name = new byte[index.getShort() & 0xFFFF];
+            index.get(name);
+            int width = index.getInt();
+            int height = index.getInt();
+            long sourceLength = index.getLong();
+            int sourceCrc = index.getInt();
+            long offset = index.getLong();
+            long length = index.getLong();
+            if (offset < 0 || length < 0 || offset + length > data.capacity()) {
+                throw new IOException("entry " + i + " points outside the file");
+            }
+            if (type == SPRITE && length != 4L * width * height) {
+                throw new IOException("entry " + i + " has the wrong size for a " + width + "x" + height + " sprite");
+            }
+            entries.put(new String(name, StandardCharsets.UTF_8),
+                    new Entry(type, width, height, sourceLength, sourceCrc, (int) offset, (int) length));
+        }
+    }
+
+    /**
+     * Data block of an entry as its own little-endian buffer, sharing the mapped memory
+     */
+    private ByteBuffer view(Entry entry) {
+        ByteBuffer block = data.duplicate();
+        block.position(entry.offset);
+        block.limit(entry.offset + entry.length);
+        return block.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public boolean contains(String resourcePath) {
+        return entries.containsKey(resourcePath);
+    }
+
+    /**
+     * Entry for a resource of the given type, or null if there is none or its source has changed
+     */
+    private Entry current(String resourcePath, byte type) {
+        Entry entry = entries.get(resourcePath);
+        if (entry == null || entry.type != type) {
+            return null;
+        }
+        if (!matchesSource(resourcePath, entry)) {
+            System.err.println("Asset pack entry " + resourcePath + " is out of date; loading the file instead."
+                    + " Run AssetBaker to refresh " + path + ".");
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * True if the resource still has the length and CRC32 it was baked from
+     * Only checksums the raw file bytes, which is far cheaper than decoding them.
+     */
+    private static boolean matchesSource(String resourcePath, Entry entry) {
+        try (InputStream in = AssetPack.class.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                return false;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+                length += read;
+            }
+            return length == entry.sourceLength && (int) crc.getValue() == entry.sourceCrc;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sprite baked from a resource, as a premultiplied ARGB image
+     * @return a new image, or null if the pack has no current sprite for the path
+     */
+    public BufferedImage getImage(String resourcePath) {
+        Entry entry = current(resourcePath, SPRITE);
+        if (entry == null) {
+            return null;
+        }
+        int[] pixels = new int[entry.width * entry.height];
+        view(entry).asIntBuffer().get(pixels);
+        BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        // setDataElements, not getData(): touching the raster's array would stop Java2D caching the image
+        image.getRaster().setDataElements(0, 0, entry.width, entry.height, pixels);
+        return image;
+    }
+
+    /**
+     * Sound effect baked from a resource; its samples are a view of the mapped file
+     * @return null if the pack has no current sound for the path
+     */
+    public SoundSample getSound(String name, String resourcePath) {
+        Entry entry = current(resourcePath, SOUND);
+        if (entry == null) {
+            return null;
+        }
+        return new SoundSample(name, view(entry).asShortBuffer());
+    }
+
+    public List<String> getPaths() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getBytes() {
+        return data.capacity();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+}
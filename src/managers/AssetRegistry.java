@@ -0,0 +1,186 @@
+package managers;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes every image asset once and shares it between all users
+ * Images handed out are shared and must be treated as read-only. Load time, memory and
+ * failures are recorded per asset; nothing is printed while loading, so a first use
+ * during gameplay stays quiet. Call getReport() to see what was loaded.
+ * Decoding happens outside the registry lock, so several threads can load different assets
+ * at the same time. Images are taken from the baked AssetPack when there is one, and decoded
+ * from their files otherwise.
+ * Implements singleton pattern like SoundManager
+ */
+public class AssetRegistry {
+    public static final String PLAYER_SPRITE = "/assets/sprites/player.png";
+    public static final String ENEMY_SPRITE = "/assets/sprites/enemy.png";
+    private static final String[] SPRITES = {PLAYER_SPRITE, ENEMY_SPRITE};
+
+    private static AssetRegistry instance;
+
+    private final Map<String, Asset> images = new LinkedHashMap<>();
+
+    /**
+     * Load record for one asset; image is null when the asset is missing or unreadable
+     */
+    public static class Asset {
+        private final String path;
+        private final BufferedImage image;
+        private final long loadNanos;
+        private final long bytes;
+        private final String failure;
+        private final boolean packed;
+
+        Asset(String path, BufferedImage image, long loadNanos, String failure, boolean packed) {
+            this.path = path;
+            this.image = image;
+            this.loadNanos = loadNanos;
+            this.bytes = image != null ? estimateBytes(image) : 0;
+            this.failure = failure;
+            this.packed = packed;
+        }
+
+        public String getPath() { return path; }
+        public BufferedImage getImage() { return image; }
+        public long getLoadNanos() { return loadNanos; }
+        public long getBytes() { return bytes; }
+        public boolean isMissing() { return image == null; }
+        public String getFailure() { return failure; }
+        public boolean isPacked() { return packed; }
+    }
+
+    private AssetRegistry() {
+    }
+
+    public static synchronized AssetRegistry getInstance() {
+        if (instance == null) {
+            instance = new AssetRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Decoded image for a classpath resource, loading it on first use
+     * @return the shared image, or null if it could not be loaded (callers draw a fallback)
+     */
+    public BufferedImage getImage(String path) {
+        synchronized (this) {
+            Asset asset = images.get(path);
+            if (asset != null) {
+                return asset.image;
+            }
+        }
+
+        // Two threads may decode the same image at once; the first one stored is kept
+        Asset loaded = load(path);
+        synchronized (this) {
+            Asset existing = images.putIfAbsent(path, loaded);
+            return existing != null ? existing.image : loaded.image;
+        }
+    }
+
+    /**
+     * Decode every sprite up front so gameplay never waits on PNG decoding
+     */
+    public void preloadSprites() {
+        for (String path : SPRITES) {
+            getImage(path);
+        }
+    }
+
+    /**
+     * Paths of every sprite the game uses
+     */
+    public static List<String> getSpritePaths() {
+        return Arrays.asList(SPRITES.clone());
+    }
+
+    private Asset load(String path) {
+        long start = System.nanoTime();
+        AssetPack pack = AssetPack.getDefault();
+        if (pack != null) {
+            BufferedImage baked = pack.getImage(path);
+            if (baked != null) {
+                return new Asset(path, baked, System.nanoTime() - start, null, true);
+            }
+        }
+
+        BufferedImage image = null;
+        String failure = null;
+        try (InputStream in = AssetRegistry.class.getResourceAsStream(path)) {
+            if (in == null) {
+                failure = "not found";
+            } else {
+                image = ImageIO.read(in);
+                if (image == null) {
+                    failure = "unsupported image format";
+                }
+            }
+        } catch (IOException e) {
+            failure = e.getMessage();
+        }
+        return new Asset(path, image, System.nanoTime() - start, failure, false);
+    }
+
+    /**
+     * Approximate heap used by the image's pixel data
+     */
+    private static long estimateBytes(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    public synchronized List<Asset> getAssets() {
+        return new ArrayList<>(images.values());
+    }
+
+    public synchronized long getTotalBytes() {
+        long total = 0;
+        for (Asset asset : images.values()) {
+            total += asset.bytes;
+        }
+        return total;
+    }
+
+    public synchronized int getMissingCount() {
+        int missing = 0;
+        for (Asset asset : images.values()) {
+            if (asset.isMissing()) {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * One line per asset with load time and memory, missing ones marked as using fallbacks
+     */
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Assets: ").append(images.size()).append(" requested, ")
+                .append(getMissingCount()).append(" missing, ")
+                .append(getTotalBytes() / 1024).append(" KB decoded\n");
+        for (Asset asset : images.values()) {
+            report.append(String.format("  %-36s %7.2f ms  ", asset.path, asset.loadNanos / 1_000_000.0));
+            if (asset.isMissing()) {
+                report.append("MISSING (").append(asset.failure).append("), using fallback rendering");
+            } else {
+                report.append(asset.image.getWidth()).append("x").append(asset.image.getHeight())
+                        .append(", ").append(asset.bytes / 1024).append(" KB")
+                        .append(asset.packed ? ", from pack" : "");
+            }
+            report.append('\n');
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package managers;
+
+import engine.Histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer/single-consumer ring buffer of commands for the audio thread
+ * The producer and the consumer never lock or wait on each other: each side writes only its
+ * own index and publishes it with an ordered store after filling or emptying a slot. A full
+ * ring drops the command and counts it instead of blocking the caller. The time each enqueue
+ * takes is recorded, so the cost to the game thread can be checked.
+ *
+ * Exactly one thread may call offer() and exactly one may call drain().
+ */
+public class AudioCommandQueue {
+    public static final int PLAY = 0;
+    public static final int STOP_ALL = 1;
+
+    /**
+     * Receives drained commands on the consumer thread
+     */
+    public interface Handler {
+        void onCommand(int type, SoundSample sample, float gain, int priority);
+    }
+
+    private final int mask;
+    private final int[] types;
+    private final SoundSample[] samples;
+    private final float[] gains;
+    private final int[] priorities;
+
+    private final AtomicLong head = new AtomicLong();  // next slot to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong();  // next slot to write, written by the producer
+    private long cachedHead = 0;                       // producer's last look at head
+
+    // Producer-side statistics
+    private final Histogram enqueueNanos = new Histogram();
+    private volatile long dropped = 0;
+
+    /**
+     * @param capacity slots in the ring, rounded up to a power of two
+     */
+    public AudioCommandQueue(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        types = new int[size];
+        samples = new SoundSample[size];
+        gains = new float[size];
+        priorities = new int[size];
+    }
+
+    /**
+     * Post a command; never blocks
+     * @return false if the ring was full and the command was dropped
+     */
+    public boolean offer(int type, SoundSample sample, float gain, int priority) {
+        long start = System.nanoTime();
+        long t = tail.get();
+        if (t - cachedHead > mask) {
+            // Looks full from the cached index; check where the consumer really is
+            cachedHead = head.get();
+            if (t - cachedHead > mask) {
+                dropped++;
+                enqueueNanos.record(System.nanoTime() - start);
+                return false;
+            }
+        }
+
+        int slot = (int) t & mask;
+        types[slot] = type;
+        samples[slot] = sample;
+        gains[slot] = gain;
+        priorities[slot] = priority;
+        tail.lazySet(t + 1);   // publishes the slot contents to the consumer
+
+        enqueueNanos.record(System.nanoTime() - start);
+        return true;
+    }
+
+    /**
+     * Hand every queued command to the handler, oldest first
+     * @return number of commands drained
+     */
+    public int drain(Handler handler) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) i & mask;
+            SoundSample sample = samples[slot];
+            samples[slot] = null;   // don't keep samples reachable from stale slots
+            handler.onCommand(types[slot], sample, gains[slot], priorities[slot]);
+        }
+        if (t != h) {
+            head.lazySet(t);   // frees the slots for the producer
+        }
+        return (int) (t - h);
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Commands dropped because the ring was full
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Time spent in each offer() call; read it on the producer thread
+     */
+    public Histogram getEnqueueNanos() {
+        return enqueueNanos;
+    }
+}
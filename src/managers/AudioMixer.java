@@ -0,0 +1,318 @@
+package managers;
+
+import javax.sound.sampled.*;
+import javax.swing.*;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mixes sound effects in software into a single SourceDataLine on a real-time audio thread
+ * A fixed pool of voices plays pre-decoded SoundSamples, each with its own gain. When every
+ * voice is busy, a new sound takes the oldest voice of the lowest priority not above its own;
+ * if all voices outrank it, it is dropped. The line's buffer, and so the latency, is set by
+ * bufferFrames: the thread writes half a buffer at a time.
+ *
+ * play() and stopAll() only post a command to a lock-free ring buffer that the audio thread
+ * drains before each mix, so the game thread never waits on the audio device. The ring has a
+ * single producer, the EDT; calls from other threads are handed to the EDT. The master gain is
+ * state rather than an event: setMasterGain() stores it and the audio thread reads it once per
+ * chunk, so dragging a volume slider never fills the ring. All voice state belongs to the audio thread, which starts on first use. If no
+ * line is available the mixer stays silent and counts what it dropped.
+ */
+public class AudioMixer implements Runnable, AudioCommandQueue.Handler {
+    public static final int SAMPLE_RATE = 44100;
+    public static final int CHANNELS = 2;
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    public static final int DEFAULT_VOICES = 16;
+    public static final int DEFAULT_BUFFER_FRAMES = 2048;   // about 46 ms
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    // Longest idle sleep; bounds the delay if a wake-up races with the thread going to sleep
+    private static final long IDLE_PARK_NANOS = 5_000_000;
+
+    /**
+     * One playing sound
+     */
+    private static class Voice {
+        SoundSample sample;
+        int position;        // next frame to mix
+        float gain;
+        int priority;
+        long started;        // play sequence number, to find the oldest
+    }
+
+    private final AudioCommandQueue commands;
+    private final Voice[] voices;
+    private final int bufferFrames;
+    private final int chunkFrames;
+    private final int[] mix;
+    private final byte[] output;
+
+    // Audio thread state
+    private int activeVoices = 0;
+    private long playCount = 0;
+
+    private volatile float masterGain = 1.0f;   // set from any thread, read once per chunk
+    private volatile Thread thread;
+    private volatile boolean closed = false;
+    private volatile boolean unavailable = false;
+    private volatile boolean parked = false;
+
+    // Statistics, written by the audio thread only
+    private volatile int currentVoices = 0;
+    private volatile int peakVoices = 0;
+    private volatile long stolen = 0;
+    private volatile long dropped = 0;
+
+    public AudioMixer() {
+        this(DEFAULT_VOICES, DEFAULT_BUFFER_FRAMES);
+    }
+
+    /**
+     * @param voiceCount sounds that can play at once
+     * @param bufferFrames size of the output line's buffer; smaller means lower latency
+     */
+    public AudioMixer(int voiceCount, int bufferFrames) {
+        if (voiceCount <= 0 || bufferFrames < 64) {
+            throw new IllegalArgumentException("Need at least one voice and a buffer of 64 frames");
+        }
+        commands = new AudioCommandQueue(DEFAULT_QUEUE_CAPACITY);
+        voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+        this.bufferFrames = bufferFrames;
+        this.chunkFrames = bufferFrames / 2;
+        mix = new int[chunkFrames * CHANNELS];
+        output = new byte[chunkFrames * FORMAT.getFrameSize()];
+    }
+
+    /**
+     * Ask for a sound to start on a free voice, or on a stolen one if the pool is full
+     * @param gain 0.0 to 1.0, multiplied with the master gain
+     * @param priority higher numbers steal from and are protected against lower ones
+     * @return false if the sound was dropped right away (queue full or no output line)
+     */
+    public boolean play(SoundSample sample, float gain, int priority) {
+        if (closed || sample == null || sample.getFrameCount() == 0) return false;
+        if (unavailable) {
+            dropped++;   // the audio thread has exited, so this is the only writer
+            return false;
+        }
+        return post(AudioCommandQueue.PLAY, sample, Math.max(0.0f, Math.min(1.0f, gain)), priority);
+    }
+
+    /**
+     * Silence every voice
+     */
+    public void stopAll() {
+        post(AudioCommandQueue.STOP_ALL, null, 0f, 0);
+    }
+
+    /**
+     * Set the gain applied to every voice, 0.0 to 1.0; takes effect from the next chunk, from any thread
+     */
+    public void setMasterGain(float gain) {
+        masterGain = Math.max(0.0f, Math.min(1.0f, gain));
+    }
+
+    private boolean post(int type, SoundSample sample, float gain, int priority) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            // Keep a single producer: the ring is only safe with one writing thread
+            SwingUtilities.invokeLater(() -> post(type, sample, gain, priority));
+            return true;
+        }
+        boolean queued = commands.offer(type, sample, gain, priority);
+        Thread audioThread = thread;
+        if (audioThread == null) {
+            if (type == AudioCommandQueue.PLAY && !closed) {
+                audioThread = new Thread(this, "audio-mixer");
+                audioThread.setDaemon(true);
+                audioThread.setPriority(Thread.MAX_PRIORITY);
+                thread = audioThread;
+                audioThread.start();
+            }
+        } else if (parked) {
+            LockSupport.unpark(audioThread);
+        }
+        return queued;
+    }
+
+    /**
+     * Stop the audio thread and release the line
+     */
+    public void close() {
+        closed = true;
+        Thread audioThread = thread;
+        if (audioThread != null) {
+            LockSupport.unpark(audioThread);
+            try {
+                audioThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, bufferFrames * FORMAT.getFrameSize());
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Audio mixer disabled, no output line: " + e.getMessage());
+            unavailable = true;
+            return;
+        }
+
+        try {
+            while (!closed) {
+                commands.drain(this);
+                if (activeVoices == 0) {
+                    // Nothing to play: let the line run dry rather than write silence
+                    parked = true;
+                    if (commands.isEmpty() && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    parked = false;
+                    continue;
+                }
+                mixChunk();
+                // Blocks until the line has room, which paces the thread
+                line.write(output, 0, output.length);
+            }
+        } finally {
+            line.stop();
+            line.flush();
+            line.close();
+        }
+    }
+
+    /**
+     * Apply one command from the queue; runs on the audio thread
+     */
+    @Override
+    public void onCommand(int type, SoundSample sample, float gain, int priority) {
+        switch (type) {
+            case AudioCommandQueue.PLAY:
+                start(sample, gain, priority);
+                break;
+            case AudioCommandQueue.STOP_ALL:
+                for (Voice v : voices) {
+                    v.sample = null;
+                }
+                activeVoices = 0;
+                break;
+            default:
+                break;
+        }
+        currentVoices = activeVoices;
+    }
+
+    private void start(SoundSample sample, float gain, int priority) {
+        Voice voice = null;
+        Voice victim = null;
+        for (Voice v : voices) {
+            if (v.sample == null) {
+                voice = v;
+                break;
+            }
+            if (v.priority <= priority && (victim == null || v.priority < victim.priority
+                    || (v.priority == victim.priority && v.started < victim.started))) {
+                victim = v;
+            }
+        }
+        if (voice == null) {
+            if (victim == null) {
+                dropped++;
+                return;
+            }
+            voice = victim;
+            stolen++;
+        } else {
+            activeVoices++;
+            peakVoices = Math.max(peakVoices, activeVoices);
+        }
+
+        voice.sample = sample;
+        voice.position = 0;
+        voice.gain = gain;
+        voice.priority = priority;
+        voice.started = playCount++;
+    }
+
+    /**
+     * Sum every active voice into the output buffer, clamped to 16 bits
+     */
+    private void mixChunk() {
+        Arrays.fill(mix, 0);
+        float master = masterGain;
+        for (Voice v : voices) {
+            if (v.sample == null) continue;
+
+            ShortBuffer samples = v.sample.getSamples();
+            int frames = Math.min(chunkFrames, v.sample.getFrameCount() - v.position);
+            float gain = v.gain * master;
+            int base = v.position * CHANNELS;
+            for (int i = 0; i < frames * CHANNELS; i++) {
+                mix[i] += (int) (samples.get(base + i) * gain);
+            }
+            v.position += frames;
+            if (v.position >= v.sample.getFrameCount()) {
+                v.sample = null;
+                activeVoices--;
+            }
+        }
+        currentVoices = activeVoices;
+
+        for (int i = 0; i < mix.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            output[i * 2] = (byte) sample;
+            output[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    public int getActiveVoices() {
+        return currentVoices;
+    }
+
+    public int getPeakVoices() {
+        return peakVoices;
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * Sounds that took over a busy voice
+     */
+    public long getStolenCount() {
+        return stolen;
+    }
+
+    /**
+     * Sounds not played because every voice had a higher priority or there is no output line
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Queue between the game and the audio thread, for its dropped count and enqueue times
+     */
+    public AudioCommandQueue getCommandQueue() {
+        return commands;
+    }
+
+    /**
+     * Output latency from the line buffer size, in milliseconds
+     */
+    public double getLatencyMillis() {
+        return bufferFrames * 1000.0 / SAMPLE_RATE;
+    }
+}
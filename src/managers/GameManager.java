@@ -1,8 +1,12 @@
 package managers;
 
+import ecs.EntityStore;
 import entities.Enemy;
-import java.util.List;
-import java.util.Random;
+import engine.RandomStream;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Game manager class handling game state, scoring, and level progression
@@ -13,19 +17,21 @@ public class GameManager {
     private int level;
     private int enemySpawnTimer;
     private int enemySpawnRate;
-    private Random random;
+    private RandomStream random;
     private int enemiesPerLevel;
     private int maxEnemiesPerLevel;
     private double enemySpeedMultiplier;
     private int currentLevelEnemyCount;
 
-
-    public GameManager(int level) {
+    /**
+     * Game manager drawing spawn positions from the given stream
+     */
+    public GameManager(int level, RandomStream random) {
         this.score = 0;
         this.level = level;
         this.enemySpawnTimer = 0;
         this.enemySpawnRate = 120; // Spawn enemy every 2 seconds at 60 FPS
-        this.random = new Random();
+        this.random = random;
 
         // Initialize level-based properties
         calculateLevelProperties();
@@ -55,7 +61,7 @@ public class GameManager {
                 ", Spawn Rate: " + enemySpawnRate + " frames");
     }
 
-    public void update(List<Enemy> enemies, int screenWidth, int screenHeight) {
+    public void update(EntityStore enemies, int screenWidth, int screenHeight) {
         // Handle enemy spawning based on level requirements
         enemySpawnTimer++;
         if (enemySpawnTimer >= enemySpawnRate && currentLevelEnemyCount < maxEnemiesPerLevel) {
@@ -68,12 +74,12 @@ public class GameManager {
         updateLevel(enemies);
     }
 
-    private void spawnEnemy(List<Enemy> enemies, int screenWidth, int screenHeight) {
+    private void spawnEnemy(EntityStore enemies, int screenWidth, int screenHeight) {
         double y = random.nextInt(screenHeight - 50) + 25;
-        enemies.add(new Enemy(screenWidth, y, level));
+        enemies.spawnEnemy(new Enemy(screenWidth, y, level));
     }
 
-    public void updateLevel(List<Enemy> enemies) {
+    public void updateLevel(EntityStore enemies) {
         // Check if all enemies for current level have been spawned and destroyed
         if (currentLevelEnemyCount >= maxEnemiesPerLevel && enemies.isEmpty()) {
             level++;
@@ -86,6 +92,35 @@ public class GameManager {
         }
     }
 
+    /**
+     * Write progression state, for replay keyframes
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(score);
+        out.writeInt(level);
+        out.writeInt(enemySpawnTimer);
+        out.writeInt(enemySpawnRate);
+        out.writeInt(enemiesPerLevel);
+        out.writeInt(maxEnemiesPerLevel);
+        out.writeDouble(enemySpeedMultiplier);
+        out.writeInt(currentLevelEnemyCount);
+    }
+
+    /**
+     * Restore state written by writeState, drawing further spawns from the given stream
+     */
+    public void readState(DataInput in, RandomStream random) throws IOException {
+        this.random = random;
+        score = in.readInt();
+        level = in.readInt();
+        enemySpawnTimer = in.readInt();
+        enemySpawnRate = in.readInt();
+        enemiesPerLevel = in.readInt();
+        maxEnemiesPerLevel = in.readInt();
+        enemySpeedMultiplier = in.readDouble();
+        currentLevelEnemyCount = in.readInt();
+    }
+
     public void addScore(int points) {
         score += points;
     }
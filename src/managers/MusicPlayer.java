@@ -0,0 +1,328 @@
+package managers;
+
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streams music from a classpath resource into a SourceDataLine on a dedicated thread
+ * Audio is read and written in small chunks, so only the read buffer and the line's own
+ * buffer are resident, however long the track is. A looping track is reopened the moment
+ * it ends and written straight after its own tail, so the line never runs dry at the seam.
+ * Switching or stopping a track fades the old one out, and the new one fades in.
+ * Volume and fades are applied to the samples in software, so no line controls are needed.
+ *
+ * Control methods may be called from any thread; they only set the requested state and wake
+ * the music thread, which starts on first use.
+ */
+public class MusicPlayer implements Runnable {
+    private static final int CHUNK_FRAMES = 2048;       // frames read and written per step
+    private static final int LINE_BUFFER_CHUNKS = 4;    // line buffer size, about 190 ms at 44.1 kHz
+    public static final int DEFAULT_FADE_MILLIS = 500;
+
+    // Requested state, guarded by this
+    private String requestedTrack;
+    private boolean requestedLoop;
+    private boolean paused = false;
+    private boolean closed = false;
+    private float volume = 1.0f;
+    private int fadeMillis = DEFAULT_FADE_MILLIS;
+    private Thread thread;
+
+    // Playback state, owned by the music thread
+    private String playingTrack;
+    private boolean playingLoop;
+    private AudioInputStream stream;
+    private SourceDataLine line;
+    private byte[] chunk;
+    private float fadeGain = 0f;     // 0..1, multiplied with the volume
+    private float fadeStep = 1f;     // change of fadeGain per frame; negative while fading out
+
+    /**
+     * Play a track, fading out whatever is playing first; no effect if it is already playing
+     * @param resourcePath classpath resource of a PCM WAV file
+     */
+    public synchronized void play(String resourcePath, boolean loop) {
+        requestedTrack = resourcePath;
+        requestedLoop = loop;
+        paused = false;
+        wake();
+    }
+
+    /**
+     * Fade out and stop the current track
+     */
+    public synchronized void stop() {
+        requestedTrack = null;
+        paused = false;
+        wake();
+    }
+
+    /**
+     * Hold playback at the current position; resume() continues from there
+     */
+    public synchronized void pause() {
+        paused = true;
+        notifyAll();
+    }
+
+    public synchronized void resume() {
+        paused = false;
+        notifyAll();
+    }
+
+    /**
+     * Set the music volume, 0.0 to 1.0
+     */
+    public synchronized void setVolume(float volume) {
+        this.volume = Math.max(0.0f, Math.min(1.0f, volume));
+    }
+
+    /**
+     * Fade length used when tracks start, stop or change; 0 switches immediately
+     */
+    public synchronized void setFadeMillis(int fadeMillis) {
+        this.fadeMillis = Math.max(0, fadeMillis);
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Track requested to play, or null when stopped
+     */
+    public synchronized String getTrack() {
+        return requestedTrack;
+    }
+
+    /**
+     * Stop the music thread and release the line
+     */
+    public void close() {
+        Thread toJoin;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+            toJoin = thread;
+        }
+        if (toJoin != null) {
+            try {
+                toJoin.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void wake() {
+        if (thread == null && !closed) {
+            thread = new Thread(this, "music-player");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                String track;
+                boolean loop;
+                float gain;
+                int fade;
+                synchronized (this) {
+                    // Sleep while paused, or while there is nothing to play or fade out
+                    while (!closed && (paused || (requestedTrack == null && playingTrack == null))) {
+                        if (line != null && line.isRunning()) {
+                            line.stop();   // keeps the buffered audio, so resume continues seamlessly
+                        }
+                        wait();
+                    }
+                    if (closed) break;
+                    if (line != null && playingTrack != null && !line.isRunning()) {
+                        line.start();
+                    }
+                    track = requestedTrack;
+                    loop = requestedLoop;
+                    gain = volume;
+                    fade = fadeMillis;
+                }
+
+                if (playingTrack != null && !playingTrack.equals(track)) {
+                    // Fade the current track out before switching or stopping
+                    if (fade > 0 && fadeGain > 0) {
+                        fadeStep = -fadeStepFor(fade);
+                    } else {
+                        closeStream();
+                    }
+                } else if (playingTrack == null) {
+                    if (!open(track, loop, fade)) {
+                        synchronized (this) {
+                            if (track.equals(requestedTrack)) {
+                                requestedTrack = null;   // unplayable: don't retry in a loop
+                            }
+                        }
+                        continue;
+                    }
+                } else {
+                    // Same track asked for again, possibly while it was fading out
+                    playingLoop = loop;
+                    if (fadeStep < 0) {
+                        fadeStep = fadeStepFor(fade);
+                    }
+                }
+
+                if (playingTrack != null) {
+                    pump(gain);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeStream();
+            if (line != null) {
+                line.close();
+                line = null;
+            }
+        }
+    }
+
+    /**
+     * Open a track and get a line for it, reusing the current line if the format matches
+     */
+    private boolean open(String track, boolean loop, int fade) {
+        try {
+            stream = openStream(track);
+            AudioFormat format = stream.getFormat();
+            if (line == null || !line.getFormat().matches(format)) {
+                if (line != null) {
+                    line.close();
+                }
+                int chunkBytes = CHUNK_FRAMES * format.getFrameSize();
+                line = AudioSystem.getSourceDataLine(format);
+                line.open(format, chunkBytes * LINE_BUFFER_CHUNKS);
+                chunk = new byte[chunkBytes];
+            }
+            line.start();
+            playingTrack = track;
+            playingLoop = loop;
+            fadeGain = fade > 0 ? 0f : 1f;
+            fadeStep = fadeStepFor(fade);
+            return true;
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Error streaming music " + track + ": " + e.getMessage());
+            closeStream();
+            if (line != null && !line.isOpen()) {
+                line = null;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Decoding stream for a resource as 16-bit signed little-endian PCM
+     */
+    private static AudioInputStream openStream(String track) throws UnsupportedAudioFileException, IOException {
+        InputStream in = MusicPlayer.class.getResourceAsStream(track);
+        if (in == null) {
+            throw new IOException("not found");
+        }
+        AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+        AudioFormat format = source.getFormat();
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+        return format.matches(pcm) ? source : AudioSystem.getAudioInputStream(pcm, source);
+    }
+
+    private float fadeStepFor(int fade) {
+        if (fade <= 0) return 1f;
+        float sampleRate = line != null ? line.getFormat().getSampleRate() : 44100f;
+        return 1000f / (fade * sampleRate);
+    }
+
+    /**
+     * Read one chunk, scale it by volume and fade, and write it; blocks while the line is full
+     */
+    private void pump(float volume) {
+        try {
+            int read = readFully(chunk);
+            if (read <= 0) {
+                if (playingLoop) {
+                    // Seamless loop: the next chunk comes from the top of the track
+                    stream.close();
+                    stream = openStream(playingTrack);
+                } else {
+                    line.drain();
+                    finish();
+                }
+                return;
+            }
+
+            int frameSize = line.getFormat().getFrameSize();
+            int channels = line.getFormat().getChannels();
+            for (int frame = 0; frame < read; frame += frameSize) {
+                fadeGain = Math.max(0f, Math.min(1f, fadeGain + fadeStep));
+                float gain = volume * fadeGain;
+                for (int c = 0; c < channels; c++) {
+                    int i = frame + c * 2;
+                    int sample = (short) ((chunk[i] & 0xFF) | (chunk[i + 1] << 8));
+                    sample = (int) (sample * gain);
+                    chunk[i] = (byte) sample;
+                    chunk[i + 1] = (byte) (sample >> 8);
+                }
+            }
+            line.write(chunk, 0, read);
+
+            // Faded all the way out: the pending switch or stop can happen now
+            if (fadeStep < 0 && fadeGain == 0f) {
+                line.flush();
+                closeStream();
+            }
+        } catch (IOException | UnsupportedAudioFileException e) {
+            System.err.println("Error streaming music " + playingTrack + ": " + e.getMessage());
+            finish();
+        }
+    }
+
+    /**
+     * The playing track ended: forget the request for it, unless another track was asked for since
+     */
+    private void finish() {
+        String finished = playingTrack;
+        closeStream();
+        synchronized (this) {
+            if (finished != null && finished.equals(requestedTrack)) {
+                requestedTrack = null;
+            }
+        }
+    }
+
+    /**
+     * Fill as much of the buffer as the stream allows, in whole frames
+     */
+    private int readFully(byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = stream.read(buffer, total, buffer.length - total);
+            if (read < 0) break;
+            total += read;
+        }
+        int frameSize = line.getFormat().getFrameSize();
+        return total - total % frameSize;
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+            stream = null;
+        }
+        playingTrack = null;
+    }
+}
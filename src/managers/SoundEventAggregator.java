@@ -0,0 +1,194 @@
+package managers;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the sound effects requested during one frame and plays each sound at most once
+ * The first request of a frame schedules a flush on the EDT, which runs right after the
+ * current event (the game loop's tick, or a key press in a menu) has been handled. At the
+ * flush, all requests for the same sound become one playback, louder the more there were,
+ * so a wave dying at once gives one big explosion instead of a clipped pile of identical ones.
+ * Each sound also has a cap on playbacks per time window. Merged and rate-limited requests
+ * are counted per sound. Used on the EDT only.
+ */
+public class SoundEventAggregator {
+    public static final int DEFAULT_LIMIT = 8;
+    public static final long DEFAULT_WINDOW_MILLIS = 250;
+
+    // Gain of a single request; leaves headroom for merged requests to sound bigger
+    private static final float SINGLE_GAIN = 0.6f;
+    private static final float GAIN_PER_DOUBLING = 0.15f;
+
+    /**
+     * Receives the playbacks that survive merging and rate limiting
+     */
+    public interface Sink {
+        void play(String soundName, float gain);
+    }
+
+    /**
+     * Pending requests, rate window and counters for one sound
+     */
+    private static class Channel {
+        final String name;
+        final long windowNanos;
+        final long[] recentStarts;   // start times of the last `limit` playbacks, as a ring
+        int recentIndex = 0;
+        int pending = 0;
+
+        long requested = 0;
+        long played = 0;
+        long merged = 0;
+        long limited = 0;
+
+        Channel(String name, int limit, long windowMillis) {
+            this.name = name;
+            this.windowNanos = windowMillis * 1_000_000L;
+            this.recentStarts = new long[limit];
+        }
+
+        /**
+         * True if fewer than `limit` playbacks started within the window; records this one if so
+         */
+        boolean admit(long now) {
+            long oldest = recentStarts[recentIndex];
+            if (oldest != 0 && now - oldest < windowNanos) {
+                return false;
+            }
+            recentStarts[recentIndex] = now;
+            recentIndex = (recentIndex + 1) % recentStarts.length;
+            return true;
+        }
+    }
+
+    private final Sink sink;
+    private final Map<String, Channel> channels = new LinkedHashMap<>();
+    private final List<Channel> dirty = new ArrayList<>();
+    private final Runnable flushTask = this::flush;
+    private boolean flushScheduled = false;
+
+    public SoundEventAggregator(Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Allow at most `limit` playbacks of a sound in any window of the given length
+     */
+    public void setRateLimit(String soundName, int limit, long windowMillis) {
+        if (limit <= 0 || windowMillis < 0) {
+            throw new IllegalArgumentException("Limit must be > 0 and window >= 0");
+        }
+        channels.put(soundName, new Channel(soundName, limit, windowMillis));
+    }
+
+    /**
+     * Request a sound for this frame
+     */
+    public void request(String soundName) {
+        Channel channel = channels.get(soundName);
+        if (channel == null) {
+            channel = new Channel(soundName, DEFAULT_LIMIT, DEFAULT_WINDOW_MILLIS);
+            channels.put(soundName, channel);
+        }
+        channel.requested++;
+        if (channel.pending++ == 0) {
+            dirty.add(channel);
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(flushTask);
+        }
+    }
+
+    /**
+     * Play one merged request per sound, subject to its rate limit
+     */
+    public void flush() {
+        flushScheduled = false;
+        long now = System.nanoTime();
+        for (Channel channel : dirty) {
+            int count = channel.pending;
+            channel.pending = 0;
+            channel.merged += count - 1;
+            if (channel.admit(now)) {
+                channel.played++;
+                sink.play(channel.name, gainFor(count));
+            } else {
+                channel.limited++;
+            }
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Forget requests not played yet, e.g. when muting
+     */
+    public void clear() {
+        for (Channel channel : dirty) {
+            channel.pending = 0;
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Gain for a playback standing in for `count` requests: a little louder per doubling
+     */
+    static float gainFor(int count) {
+        double doublings = Math.log(count) / Math.log(2);
+        return (float) Math.min(1.0, SINGLE_GAIN + GAIN_PER_DOUBLING * doublings);
+    }
+
+    public long getRequestedCount(String soundName) {
+        Channel channel = channels.get(soundName);
+        return channel == null ? 0 : channel.requested;
+    }
+
+    public long getPlayedCount(String soundName) {
+        Channel channel = channels.get(soundName);
+        return channel == null ? 0 : channel.played;
+    }
+
+    /**
+     * Requests folded into another request for the same sound in the same frame
+     */
+    public long getMergedCount(String soundName) {
+        Channel channel = channels.get(soundName);
+        return channel == null ? 0 : channel.merged;
+    }
+
+    /**
+     * Merged playbacks dropped by the sound's rate limit
+     */
+    public long getLimitedCount(String soundName) {
+        Channel channel = channels.get(soundName);
+        return channel == null ? 0 : channel.limited;
+    }
+
+    /**
+     * Requests that did not become a playback of their own, merged or rate-limited
+     */
+    public long getSuppressedCount(String soundName) {
+        Channel channel = channels.get(soundName);
+        return channel == null ? 0 : channel.requested - channel.played - channel.pending;
+    }
+
+    public long getTotalRequested() {
+        long total = 0;
+        for (Channel channel : channels.values()) {
+            total += channel.requested;
+        }
+        return total;
+    }
+
+    public long getTotalSuppressed() {
+        long total = 0;
+        for (String soundName : channels.keySet()) {
+            total += getSuppressedCount(soundName);
+        }
+        return total;
+    }
+}
@@ -1,41 +1,98 @@
 package managers;
 
-import javax.sound.sampled.*;
-import java.io.BufferedInputStream;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import javax.swing.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SoundManager handles all audio operations in the game using javax.sound.sampled
  * Implements singleton pattern for global access and resource management
+ *
+ * Creating the instance is cheap: sounds are decoded by loadSound(), which is safe to call
+ * from several threads at once (the AssetLoader does this at startup), or all together by
+ * loadAllSounds(). A sound that is not loaded yet simply does not play. Sounds come from the
+ * baked AssetPack when there is one, with no decoding, and from their WAV files otherwise.
+ * Effects are decoded to samples and played through one software AudioMixer, so the same
+ * sound can overlap itself. Playing, muting and volume changes only post a command to the
+ * mixer's audio thread and return at once. Effects requested during the same frame pass through
+ * a SoundEventAggregator first, which merges repeats of a sound into one louder playback and
+ * rate-limits each sound. Music is not loaded at all; the MusicPlayer streams it from the
+ * resource while it plays.
  */
 public class SoundManager {
     private static SoundManager instance;
-    private Map<String, Clip> soundClips;
-    private Map<String, AudioInputStream> audioStreams;
-    private float masterVolume = 0.7f;
-    private boolean muted = false;
+    private final Map<String, SoundSample> samples;
+    private final AudioMixer mixer;
+    private final SoundEventAggregator events;
+    private final MusicPlayer musicPlayer = new MusicPlayer();
+    private volatile float masterVolume = 0.7f;
+    private volatile boolean muted = false;
 
     // Sound effect identifiers
     public static final String PLAYER_SHOOT = "player_shoot";
     public static final String ENEMY_EXPLOSION = "enemy_explosion";
-    public static final String BACKGROUND_MUSIC = "background_music";
+    public static final String BACKGROUND_MUSIC = "/assets/sounds/background_music.wav";
     public static final String MENU_HOVER = "menu_hover";
     public static final String MENU_SELECT = "menu_select";
     public static final String MENU_CLICK = "menu_click";
 
+    private static final float MUSIC_VOLUME = 0.6f; // music sits below the effects
+
+    // Output buffer of the effects mixer, in frames; lower for less latency, raise if audio crackles
+    private static final int MIXER_BUFFER_FRAMES = Integer.getInteger("audio.bufferFrames",
+            AudioMixer.DEFAULT_BUFFER_FRAMES);
+
+    // Voice stealing priorities: menu feedback is never cut off by gameplay, explosions beat shots
+    private static final int PRIORITY_SHOT = 1;
+    private static final int PRIORITY_EXPLOSION = 2;
+    private static final int PRIORITY_MENU = 3;
+    private static final Map<String, Integer> PRIORITIES = new HashMap<>();
+    static {
+        PRIORITIES.put(PLAYER_SHOOT, PRIORITY_SHOT);
+        PRIORITIES.put(ENEMY_EXPLOSION, PRIORITY_EXPLOSION);
+        PRIORITIES.put(MENU_HOVER, PRIORITY_MENU);
+        PRIORITIES.put(MENU_SELECT, PRIORITY_MENU);
+        PRIORITIES.put(MENU_CLICK, PRIORITY_MENU);
+    }
+
+    // Playbacks allowed per sound and window. Held fire shoots 6 times a second; 4 of them are heard
+    private static final int SHOT_LIMIT = 2;
+    private static final long SHOT_WINDOW_MILLIS = 500;
+    private static final int EXPLOSION_LIMIT = 6;
+    private static final long EXPLOSION_WINDOW_MILLIS = 500;
+
+    // Sound effect files, largest first so a parallel load starts the longest decode earliest
+    private static final Map<String, String> SOUND_FILES = new LinkedHashMap<>();
+    static {
+        SOUND_FILES.put(PLAYER_SHOOT, "/assets/sounds/player_shoot.wav");
+        SOUND_FILES.put(MENU_CLICK, "/assets/sounds/menu_click.wav");
+        SOUND_FILES.put(MENU_SELECT, "/assets/sounds/menu_select.wav");
+        SOUND_FILES.put(ENEMY_EXPLOSION, "/assets/sounds/enemy_explosion.wav");
+        SOUND_FILES.put(MENU_HOVER, "/assets/sounds/menu_hover.wav");
+    }
+
     private SoundManager() {
-        soundClips = new HashMap<>();
-        audioStreams = new HashMap<>();
-        loadAllSounds();
+        samples = new ConcurrentHashMap<>();
+        mixer = new AudioMixer(AudioMixer.DEFAULT_VOICES, MIXER_BUFFER_FRAMES);
+        mixer.setMasterGain(masterVolume);
+        events = new SoundEventAggregator(this::startSample);
+        events.setRateLimit(PLAYER_SHOOT, SHOT_LIMIT, SHOT_WINDOW_MILLIS);
+        events.setRateLimit(ENEMY_EXPLOSION, EXPLOSION_LIMIT, EXPLOSION_WINDOW_MILLIS);
+        musicPlayer.setVolume(masterVolume * MUSIC_VOLUME);
     }
 
     /**
      * Get singleton instance of SoundManager
      */
-    public static SoundManager getInstance() {
+    public static synchronized SoundManager getInstance() {
         if (instance == null) {
             instance = new SoundManager();
         }
@@ -43,97 +100,119 @@ public class SoundManager {
     }
 
     /**
-     * Load all sound files from resources
+     * Names of every sound the game uses, in the order they should be loaded
+     */
+    public static List<String> getSoundNames() {
+        return new ArrayList<>(SOUND_FILES.keySet());
+    }
+
+    /**
+     * Resource path of a sound effect, or null for an unknown name
+     */
+    static String getSoundFile(String soundName) {
+        return SOUND_FILES.get(soundName);
+    }
+
+    /**
+     * Load every sound that is not loaded yet, on the calling thread
      */
-    private void loadAllSounds() {
+    public void loadAllSounds() {
         try {
             // Load sound effects - using placeholder sounds if files don't exist
-            loadSound(PLAYER_SHOOT, "/assets/sounds/player_shoot.wav");
-            loadSound(ENEMY_EXPLOSION, "/assets/sounds/enemy_explosion.wav");
-            loadSound(BACKGROUND_MUSIC, "/assets/sounds/background_music.wav");
-            loadSound(MENU_HOVER, "/assets/sounds/menu_hover.wav");
-            loadSound(MENU_SELECT, "/assets/sounds/menu_select.wav");
-            loadSound(MENU_CLICK, "/assets/sounds/menu_click.wav");
+            for (String soundName : SOUND_FILES.keySet()) {
+                loadSound(soundName);
+            }
         } catch (Exception e) {
-            System.err.println("Warning: Could not load some audio files. Creating silent clips.");
-            createSilentClips();
+            System.err.println("Warning: Could not load some audio files. Using silent samples.");
+            createSilentSamples();
         }
     }
 
+    /**
+     * Load one sound by name unless it is already loaded; safe to call from any thread
+     */
+    public void loadSound(String soundName) {
+        String filePath = SOUND_FILES.get(soundName);
+        if (filePath == null) {
+            throw new IllegalArgumentException("Unknown sound: " + soundName);
+        }
+        if (!samples.containsKey(soundName)) {
+            loadSound(soundName, filePath);
+        }
+    }
+
+    public boolean isLoaded(String soundName) {
+        return samples.containsKey(soundName);
+    }
+
     /**
      * Load individual sound file
      */
     private void loadSound(String soundName, String filePath) {
+        // A baked pack already holds the decoded samples; they are used in place
+        AssetPack pack = AssetPack.getDefault();
+        SoundSample baked = pack != null ? pack.getSound(soundName, filePath) : null;
+        if (baked != null) {
+            samples.putIfAbsent(soundName, baked);
+            return;
+        }
+
         try {
             InputStream audioSrc = getClass().getResourceAsStream(filePath);
             if (audioSrc == null) {
-                System.err.println("Audio file not found: " + filePath + ". Creating silent clip.");
-                createSilentClip(soundName);
+                System.err.println("Audio file not found: " + filePath + ". Using a silent sample.");
+                createSilentSample(soundName);
                 return;
             }
 
-            InputStream bufferedIn = new BufferedInputStream(audioSrc);
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(bufferedIn);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioInputStream);
-
-            soundClips.put(soundName, clip);
-            audioStreams.put(soundName, audioInputStream);
+            try (InputStream in = audioSrc) {
+                // Another thread may have decoded the same sound meanwhile; the first one is kept
+                samples.putIfAbsent(soundName, SoundSample.decode(soundName, in));
+            }
 
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+        } catch (UnsupportedAudioFileException | IOException e) {
             System.err.println("Error loading sound " + soundName + ": " + e.getMessage());
-            createSilentClip(soundName);
+            createSilentSample(soundName);
         }
     }
 
     /**
-     * Create silent clips for all sounds as fallback
+     * Create silent samples for all sounds as fallback
      */
-    private void createSilentClips() {
-        String[] soundNames = {PLAYER_SHOOT, ENEMY_EXPLOSION, BACKGROUND_MUSIC, MENU_HOVER, MENU_SELECT, MENU_CLICK};
-        for (String soundName : soundNames) {
-            createSilentClip(soundName);
+    private void createSilentSamples() {
+        for (String soundName : SOUND_FILES.keySet()) {
+            createSilentSample(soundName);
         }
     }
 
     /**
-     * Create a silent audio clip as fallback when audio files are missing
+     * Empty sample for a sound that could not be loaded, so it counts as loaded and plays nothing
      */
-    private void createSilentClip(String soundName) {
-        try {
-            // Create minimal silent audio data
-            AudioFormat format = new AudioFormat(22050, 16, 1, true, false);
-            byte[] silentData = new byte[2205]; // 0.1 second of silence
-            AudioInputStream silentStream = new AudioInputStream(
-                    new java.io.ByteArrayInputStream(silentData),
-                    format,
-                    silentData.length / format.getFrameSize()
-            );
-
-            Clip clip = AudioSystem.getClip();
-            clip.open(silentStream);
-            soundClips.put(soundName, clip);
-
-        } catch (Exception e) {
-            System.err.println("Could not create silent clip for " + soundName);
-        }
+    private void createSilentSample(String soundName) {
+        samples.putIfAbsent(soundName, new SoundSample(soundName, ShortBuffer.allocate(0)));
     }
 
     /**
-     * Play a sound effect once
+     * Play a sound effect; it overlaps any copies already playing
+     * Requests for the same sound within one frame are merged, and may be dropped by the
+     * sound's rate limit.
      */
     public void playSound(String soundName) {
         if (muted) return;
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> playSound(soundName));
+            return;
+        }
+        events.request(soundName);
+    }
 
-        Clip clip = soundClips.get(soundName);
-        if (clip != null) {
-            // Stop and rewind clip if already playing
-            if (clip.isRunning()) {
-                clip.stop();
-            }
-            clip.setFramePosition(0);
-            setClipVolume(clip, masterVolume);
-            clip.start();
+    /**
+     * Hand a merged request to the mixer; called by the aggregator at the end of the frame
+     */
+    private void startSample(String soundName, float gain) {
+        SoundSample sample = samples.get(soundName);
+        if (sample != null && !muted) {
+            mixer.play(sample, gain, PRIORITIES.getOrDefault(soundName, PRIORITY_SHOT));
         }
     }
 
@@ -141,52 +220,46 @@ public class SoundManager {
      * Play background music on loop
      */
     public void playBackgroundMusic() {
-        if (muted) return;
+        playMusic(BACKGROUND_MUSIC, true);
+    }
 
-        Clip clip = soundClips.get(BACKGROUND_MUSIC);
-        if (clip != null && !clip.isRunning()) {
-            clip.setFramePosition(0);
-            setClipVolume(clip, masterVolume * 0.6f); // Background music at lower volume
-            clip.loop(Clip.LOOP_CONTINUOUSLY);
-        }
+    /**
+     * Stream a music track, fading over from whatever is playing
+     * @param track classpath resource of the track, e.g. BACKGROUND_MUSIC
+     */
+    public void playMusic(String track, boolean loop) {
+        if (muted) return;
+        musicPlayer.play(track, loop);
     }
 
     /**
      * Stop background music
      */
     public void stopBackgroundMusic() {
-        Clip clip = soundClips.get(BACKGROUND_MUSIC);
-        if (clip != null && clip.isRunning()) {
-            clip.stop();
-        }
+        musicPlayer.stop();
     }
 
     /**
-     * Stop all currently playing sounds
+     * Hold the music at its current position, e.g. while the game is paused
      */
-    public void stopAllSounds() {
-        for (Clip clip : soundClips.values()) {
-            if (clip != null && clip.isRunning()) {
-                clip.stop();
-            }
-        }
+    public void pauseBackgroundMusic() {
+        musicPlayer.pause();
+    }
+
+    public void resumeBackgroundMusic() {
+        if (muted) return;
+        musicPlayer.resume();
     }
 
     /**
-     * Set volume for a specific clip
+     * Stop all currently playing sounds
      */
-    private void setClipVolume(Clip clip, float volume) {
-        if (clip != null) {
-            try {
-                FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                float min = volumeControl.getMinimum();
-                float max = volumeControl.getMaximum();
-                float gain = min + (max - min) * volume;
-                volumeControl.setValue(gain);
-            } catch (IllegalArgumentException e) {
-                // Volume control not supported for this clip
-            }
+    public void stopAllSounds() {
+        if (SwingUtilities.isEventDispatchThread()) {
+            events.clear();
         }
+        mixer.stopAll();
+        musicPlayer.stop();
     }
 
     /**
@@ -195,12 +268,8 @@ public class SoundManager {
     public void setMasterVolume(float volume) {
         this.masterVolume = Math.max(0.0f, Math.min(1.0f, volume));
 
-        // Update volume for all currently loaded clips
-        for (Clip clip : soundClips.values()) {
-            if (clip != null) {
-                setClipVolume(clip, masterVolume);
-            }
-        }
+        mixer.setMasterGain(masterVolume);
+        musicPlayer.setVolume(masterVolume * MUSIC_VOLUME);
     }
 
     /**
@@ -232,12 +301,18 @@ public class SoundManager {
      */
     public void cleanup() {
         stopAllSounds();
-        for (Clip clip : soundClips.values()) {
-            if (clip != null) {
-                clip.close();
-            }
-        }
-        soundClips.clear();
-        audioStreams.clear();
+        mixer.close();
+        musicPlayer.close();
+    }
+
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+
+    /**
+     * Per-sound counts of merged and rate-limited effect requests; read it on the EDT
+     */
+    public SoundEventAggregator getSoundEvents() {
+        return events;
     }
 }
@@ -0,0 +1,105 @@
+package managers;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ShortBuffer;
+
+/**
+ * A sound effect decoded to the mixer's native format: interleaved stereo 16-bit samples at
+ * AudioMixer.SAMPLE_RATE
+ * Samples are held in a ShortBuffer so they can live on the heap or be a view of other memory.
+ * Read-only once created; shared by every voice that plays it.
+ */
+public final class SoundSample {
+    private final String name;
+    private final ShortBuffer samples;
+    private final int frameCount;
+
+    public SoundSample(String name, ShortBuffer samples) {
+        this.name = name;
+        this.samples = samples;
+        this.frameCount = samples.limit() / AudioMixer.CHANNELS;
+    }
+
+    /**
+     * Decode a PCM WAV stream, converting channels and sample rate to the mixer's format
+     */
+    public static SoundSample decode(String name, InputStream in) throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in))) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    channels, channels * 2, format.getSampleRate(), false);
+            byte[] bytes;
+            try (AudioInputStream converted = format.matches(pcm) ? source : AudioSystem.getAudioInputStream(pcm, source)) {
+                bytes = converted.readAllBytes();
+            }
+
+            // Little-endian bytes to stereo frames; mono is copied to both sides, extra channels dropped
+            int sourceFrames = bytes.length / (channels * 2);
+            short[] stereo = new short[sourceFrames * AudioMixer.CHANNELS];
+            for (int frame = 0; frame < sourceFrames; frame++) {
+                int i = frame * channels * 2;
+                short left = (short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8));
+                short right = channels > 1 ? (short) ((bytes[i + 2] & 0xFF) | (bytes[i + 3] << 8)) : left;
+                stereo[frame * 2] = left;
+                stereo[frame * 2 + 1] = right;
+            }
+
+            short[] resampled = resample(stereo, sourceFrames, format.getSampleRate());
+            return new SoundSample(name, ShortBuffer.wrap(resampled));
+        }
+    }
+
+    /**
+     * Linear-interpolation resampling of stereo frames to the mixer's sample rate
+     */
+    private static short[] resample(short[] stereo, int frames, float sourceRate) {
+        if (frames == 0 || Math.abs(sourceRate - AudioMixer.SAMPLE_RATE) < 1f) {
+            return stereo;
+        }
+        double step = sourceRate / AudioMixer.SAMPLE_RATE;
+        int outFrames = (int) (frames / step);
+        short[] out = new short[outFrames * 2];
+        for (int frame = 0; frame < outFrames; frame++) {
+            double position = frame * step;
+            int index = (int) position;
+            int next = Math.min(index + 1, frames - 1);
+            double fraction = position - index;
+            for (int c = 0; c < 2; c++) {
+                double a = stereo[index * 2 + c];
+                double b = stereo[next * 2 + c];
+                out[frame * 2 + c] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return out;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Interleaved stereo samples; use absolute gets, the buffer's position is not meaningful
+     */
+    public ShortBuffer getSamples() {
+        return samples;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public long getBytes() {
+        return (long) samples.limit() * 2;
+    }
+
+    public double getDurationMillis() {
+        return frameCount * 1000.0 / AudioMixer.SAMPLE_RATE;
+    }
+}
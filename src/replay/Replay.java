@@ -0,0 +1,281 @@
+package replay;
+
+import engine.IntList;
+import engine.World;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Recorded session: seed, per-tick input bits, level starts, keyframes and per-tick checksums
+ * Inputs are stored as runs of identical bits. A keyframe at tick t holds the world state
+ * ready to run step t; the checksum at t is taken right after step t.
+ */
+public class Replay {
+    private static final int MAGIC = 0x52504C59; // "RPLY"
+    private static final int VERSION = 1;
+
+    /**
+     * Full world state at the start of a tick
+     */
+    public static class Keyframe {
+        private final int tick;
+        private final byte[] state;
+
+        Keyframe(int tick, byte[] state) {
+            this.tick = tick;
+            this.state = state;
+        }
+
+        public int getTick() { return tick; }
+        public int getSize() { return state.length; }
+    }
+
+    private final long seed;
+    private final int keyframeInterval;
+
+    // Run-length encoded input: run r covers ticks [runStart[r], runStart[r + 1])
+    private byte[] runBits = new byte[64];
+    private int[] runStart = new int[64];
+    private int runCount;
+    private int tickCount;
+
+    private int[] checksums = new int[1024];
+    private final IntList levelStartTicks = new IntList(8);
+    private final IntList levelStartLevels = new IntList(8);
+    private final List<Keyframe> keyframes = new ArrayList<>();
+
+    public Replay(long seed, int keyframeInterval) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be > 0");
+        }
+        this.seed = seed;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Append one stepped tick
+     */
+    void appendTick(int bits, int checksum) {
+        if (runCount == 0 || runBits[runCount - 1] != (byte) bits) {
+            if (runCount == runBits.length) {
+                runBits = Arrays.copyOf(runBits, runCount * 2);
+                runStart = Arrays.copyOf(runStart, runCount * 2);
+            }
+            runBits[runCount] = (byte) bits;
+            runStart[runCount] = tickCount;
+            runCount++;
+        }
+        if (tickCount == checksums.length) {
+            checksums = Arrays.copyOf(checksums, tickCount * 2);
+        }
+        checksums[tickCount++] = checksum;
+    }
+
+    void addLevelStart(int tick, int level) {
+        levelStartTicks.add(tick);
+        levelStartLevels.add(level);
+    }
+
+    void addKeyframe(int tick, byte[] state) {
+        keyframes.add(new Keyframe(tick, state));
+    }
+
+    /**
+     * Input bits stepped at the given tick
+     */
+    public int getInput(int tick) {
+        if (tick < 0 || tick >= tickCount) {
+            throw new IndexOutOfBoundsException("Tick " + tick + " outside 0.." + (tickCount - 1));
+        }
+        int low = 0;
+        int high = runCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (runStart[middle] <= tick) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return runBits[low];
+    }
+
+    public int getChecksum(int tick) {
+        return checksums[tick];
+    }
+
+    /**
+     * Latest keyframe at or before the given tick
+     */
+    public Keyframe keyframeAtOrBefore(int tick) {
+        Keyframe best = null;
+        for (Keyframe keyframe : keyframes) {
+            if (keyframe.tick > tick) break;
+            best = keyframe;
+        }
+        return best;
+    }
+
+    /**
+     * Apply every level start recorded for the given tick
+     */
+    void applyLevelStarts(World world, int tick) {
+        for (int i = 0; i < levelStartTicks.size(); i++) {
+            if (levelStartTicks.get(i) == tick) {
+                world.startLevel(levelStartLevels.get(i));
+            }
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public int getTickCount() { return tickCount; }
+    public int getRunCount() { return runCount; }
+    public int getKeyframeCount() { return keyframes.size(); }
+
+    /**
+     * Capture the world as a keyframe payload
+     */
+    static byte[] snapshot(World world) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            world.writeState(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not snapshot world", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static void restore(World world, Keyframe keyframe) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(keyframe.state))) {
+            world.readState(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt keyframe at tick " + keyframe.tick, e);
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(path))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeInt(keyframeInterval);
+            out.writeInt(tickCount);
+
+            out.writeInt(runCount);
+            for (int r = 0; r < runCount; r++) {
+                int end = r + 1 < runCount ? runStart[r + 1] : tickCount;
+                out.writeByte(runBits[r]);
+                writeVarInt(out, end - runStart[r]);
+            }
+
+            out.writeInt(levelStartTicks.size());
+            for (int i = 0; i < levelStartTicks.size(); i++) {
+                writeVarInt(out, levelStartTicks.get(i));
+                writeVarInt(out, levelStartLevels.get(i));
+            }
+
+            for (int t = 0; t < tickCount; t++) {
+                out.writeInt(checksums[t]);
+            }
+
+            out.writeInt(keyframes.size());
+            for (Keyframe keyframe : keyframes) {
+                out.writeInt(keyframe.tick);
+                out.writeInt(keyframe.state.length);
+                out.write(keyframe.state);
+            }
+        }
+    }
+
+    public static Replay load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a replay file: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+            Replay replay = new Replay(in.readLong(), in.readInt());
+            int ticks = in.readInt();
+
+            int runs = in.readInt();
+            int[] bits = new int[runs];
+            int[] lengths = new int[runs];
+            for (int r = 0; r < runs; r++) {
+                bits[r] = in.readByte();
+                lengths[r] = readVarInt(in);
+            }
+
+            int levelStarts = in.readInt();
+            for (int i = 0; i < levelStarts; i++) {
+                replay.addLevelStart(readVarInt(in), readVarInt(in));
+            }
+
+            for (int r = 0; r < runs; r++) {
+                for (int t = 0; t < lengths[r]; t++) {
+                    replay.appendTick(bits[r], in.readInt());
+                }
+            }
+            if (replay.tickCount != ticks) {
+                throw new IOException("Replay has " + replay.tickCount + " input ticks, header says " + ticks);
+            }
+
+            int keyframeCount = in.readInt();
+            for (int k = 0; k < keyframeCount; k++) {
+                int tick = in.readInt();
+                byte[] state = new byte[in.readInt()];
+                in.readFully(state);
+                replay.addKeyframe(tick, state);
+            }
+            return replay;
+        }
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ", " + tickCount + " ticks in " + runCount + " input runs, " +
+                levelStartTicks.size() + " level starts, " + keyframes.size() + " keyframes";
+    }
+}
@@ -0,0 +1,91 @@
+package replay;
+
+import engine.InputState;
+import engine.World;
+
+/**
+ * Plays a Replay back into a World as fast as the simulation allows
+ * Each stepped tick is compared with the recorded checksum; the first mismatch is kept
+ * as the divergence tick. Seeking restores the nearest earlier keyframe and re-simulates.
+ */
+public class ReplayPlayer {
+    private final Replay replay;
+    private final World world;
+    private final InputState input = new InputState();
+
+    // Next tick to step
+    private int position = -1;
+    private int divergedAt = -1;
+
+    public ReplayPlayer(Replay replay, World world) {
+        this.replay = replay;
+        this.world = world;
+        seek(0);
+    }
+
+    /**
+     * Step one recorded tick
+     * @return false once the end of the recording is reached
+     */
+    public boolean step() {
+        if (position >= replay.getTickCount()) {
+            return false;
+        }
+        input.setBits(replay.getInput(position));
+        world.step(input);
+        if (divergedAt < 0 && world.checksum() != replay.getChecksum(position)) {
+            divergedAt = position;
+        }
+        position++;
+        replay.applyLevelStarts(world, position);
+        return true;
+    }
+
+    /**
+     * Step until the end of the recording
+     * @return number of ticks stepped
+     */
+    public int playToEnd() {
+        int stepped = 0;
+        while (step()) {
+            stepped++;
+        }
+        return stepped;
+    }
+
+    /**
+     * Bring the world to the start of the given tick
+     * Steps forward from the current position when no keyframe lies in between.
+     */
+    public void seek(int tick) {
+        if (tick < 0 || tick > replay.getTickCount()) {
+            throw new IndexOutOfBoundsException("Tick " + tick + " outside 0.." + replay.getTickCount());
+        }
+        Replay.Keyframe keyframe = replay.keyframeAtOrBefore(tick);
+        if (keyframe == null) {
+            throw new IllegalStateException("Replay has no keyframe at or before tick " + tick);
+        }
+        if (position < keyframe.getTick() || position > tick) {
+            Replay.restore(world, keyframe);
+            position = keyframe.getTick();
+        }
+        while (position < tick) {
+            step();
+        }
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * First tick whose checksum did not match the recording, or -1
+     */
+    public int getDivergedAt() {
+        return divergedAt;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+}
@@ -0,0 +1,70 @@
+package replay;
+
+import engine.InputState;
+import engine.World;
+
+/**
+ * Drives a World while recording everything needed to replay it
+ * Every change to the world made outside step() must go through the recorder
+ * (begin for a new session, startLevel for level changes) so playback can repeat it.
+ */
+public class ReplayRecorder {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 600; // 10 seconds at 60 Hz
+
+    private final World world;
+    private final int keyframeInterval;
+    private Replay replay;
+
+    public ReplayRecorder(World world) {
+        this(world, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public ReplayRecorder(World world, int keyframeInterval) {
+        this.world = world;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Reseed and reset the world, and start a new recording
+     */
+    public void begin(long seed) {
+        world.reset(seed);
+        replay = new Replay(seed, keyframeInterval);
+    }
+
+    public void startLevel(int level) {
+        world.startLevel(level);
+        if (replay != null) {
+            replay.addLevelStart(replay.getTickCount(), level);
+        }
+    }
+
+    /**
+     * Step the world with the given input, recording it while a recording is active
+     */
+    public void step(InputState input) {
+        if (replay == null || world.isGameOver()) {
+            world.step(input);
+            return;
+        }
+        int tick = replay.getTickCount();
+        if (tick % keyframeInterval == 0) {
+            replay.addKeyframe(tick, Replay.snapshot(world));
+        }
+        world.step(input);
+        replay.appendTick(input.getBits(), world.checksum());
+    }
+
+    /**
+     * Stop recording and hand back what was recorded (null if nothing was)
+     */
+    public Replay finish() {
+        Replay finished = replay;
+        replay = null;
+        return finished != null && finished.getTickCount() > 0 ? finished : null;
+    }
+
+    public boolean isRecording() {
+        return replay != null;
+    }
+}
@@ -0,0 +1,138 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Heavyweight drawing surface rendered actively through a page-flipping BufferStrategy
+ * The game loop calls renderFrame() and the frame is shown immediately instead of being
+ * queued through the RepaintManager. Lost or restored buffers are redrawn. While the canvas is
+ * not showing (for example behind another CardLayout card) frames are skipped and the strategy
+ * is kept; it is only dropped together with the native peer, and recreated on the next frame.
+ */
+public class GameCanvas extends Canvas {
+    private static final int PREFERRED_BUFFERS = 3;
+
+    /**
+     * Draws one complete frame; called once per buffer attempt, so it must not advance any state
+     */
+    public interface Renderer {
+        void drawFrame(Graphics2D g2d);
+    }
+
+    private final Renderer renderer;
+    private BufferStrategy strategy;
+
+    // Statistics
+    private long lastDrawNanos = 0;   // drawing only, without show() and sync()
+    private long framesShown = 0;
+    private long buffersLost = 0;
+    private long buffersRestored = 0;
+
+    public GameCanvas(Renderer renderer, int width, int height) {
+        this.renderer = renderer;
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        setFocusable(true);
+    }
+
+    @Override
+    public void removeNotify() {
+        // The native peer owns the buffers; drop them with it
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Render and show one frame
+     * @return false if the canvas cannot be drawn to right now (not displayable or not showing)
+     */
+    public boolean renderFrame() {
+        if (!isDisplayable() || !isShowing() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        if (strategy == null) {
+            createStrategy();
+        }
+
+        lastDrawNanos = 0;
+        try {
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    long start = System.nanoTime();   // getting the buffer may wait for a flip too
+                    try {
+                        renderer.drawFrame(g2d);
+                    } finally {
+                        g2d.dispose();
+                        lastDrawNanos += System.nanoTime() - start;
+                    }
+                } while (contentsRestored());
+                strategy.show();
+            } while (contentsLost());
+        } catch (IllegalStateException e) {
+            // Peer went away between the check and the draw; rebuild on the next frame
+            strategy = null;
+            return false;
+        }
+
+        // Flush the window system queue so the frame reaches the screen now
+        Toolkit.getDefaultToolkit().sync();
+        framesShown++;
+        return true;
+    }
+
+    // The buffer was recreated while drawing, so the frame must be drawn again
+    private boolean contentsRestored() {
+        if (strategy.contentsRestored()) {
+            buffersRestored++;
+            return true;
+        }
+        return false;
+    }
+
+    // The buffer was lost before it could be shown, so the whole frame must be redone
+    private boolean contentsLost() {
+        if (strategy.contentsLost()) {
+            buffersLost++;
+            return true;
+        }
+        return false;
+    }
+
+    private void createStrategy() {
+        try {
+            createBufferStrategy(PREFERRED_BUFFERS);
+        } catch (IllegalArgumentException e) {
+            createBufferStrategy(2);
+        }
+        strategy = getBufferStrategy();
+    }
+
+    // System exposure (window uncovered, dialog closed) redraws the current frame
+    @Override
+    public void paint(Graphics g) {
+        renderFrame();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    public boolean isPageFlipping() {
+        return strategy != null && strategy.getCapabilities().isPageFlipping();
+    }
+
+    /**
+     * Time the last renderFrame() spent drawing, including redraws of lost buffers but not
+     * presenting; show() and sync() may block on the display and say nothing about frame cost
+     */
+    public long getLastDrawNanos() { return lastDrawNanos; }
+    public long getFramesShown() { return framesShown; }
+    public long getBuffersLost() { return buffersLost; }
+    public long getBuffersRestored() { return buffersRestored; }
+}
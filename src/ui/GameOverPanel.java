@@ -1,6 +1,9 @@
 package ui;
 
 import managers.SoundManager;
+import graphics.AlphaRamp;
+import graphics.QualityGovernor;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,6 +13,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Enhanced Game Over screen with animations and better visual design
@@ -19,6 +23,9 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
     private static final int PANEL_WIDTH = 1000;
     private static final int PANEL_HEIGHT = 600;
 
+    // Visual effects only, so an unseeded stream is fine here
+    private final SplittableRandom effects = new SplittableRandom();
+
     // Animation variables
     private Timer animationTimer;
     private int animationFrame = 0;
@@ -38,9 +45,11 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
     private Font scoreFont;
     private Font buttonFont;
     private Font instructionFont;
+    private Font rankFont;
 
     // Audio
     private SoundManager soundManager;
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
 
     // Action listener interface
     public interface GameOverActionListener {
@@ -69,10 +78,11 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
      * Initialize fonts for different UI elements
      */
     private void initializeFonts() {
-        titleFont = new Font("Arial", Font.BOLD, 48);
-        scoreFont = new Font("Arial", Font.BOLD, 32);
-        buttonFont = new Font("Arial", Font.BOLD, 24);
-        instructionFont = new Font("Arial", Font.PLAIN, 14);
+        titleFont = RenderResources.font(Font.BOLD, 48);
+        scoreFont = RenderResources.font(Font.BOLD, 32);
+        buttonFont = RenderResources.font(Font.BOLD, 24);
+        instructionFont = RenderResources.font(Font.PLAIN, 14);
+        rankFont = RenderResources.font(Font.BOLD, 20);
     }
 
     /**
@@ -139,8 +149,9 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        long start = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        qualityGovernor.applyHints(g2d);
 
         // Draw animated background particles
         drawParticles(g2d);
@@ -156,14 +167,17 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
 
         // Draw instructions
         drawInstructions(g2d);
+
+        qualityGovernor.recordFrame(System.nanoTime() - start);
     }
 
     /**
      * Draw animated background particles
      */
     private void drawParticles(Graphics2D g2d) {
-        for (Particle particle : particles) {
-            particle.render(g2d);
+        int visible = qualityGovernor.getTier().particles(particles.size());
+        for (int i = 0; i < visible; i++) {
+            particles.get(i).render(g2d);
         }
     }
 
@@ -184,10 +198,12 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
         int alpha = (int) (titleAlpha * 255 * pulse);
 
         // Draw title with glow effect
-        g2d.setColor(new Color(255, 100, 100, Math.min(alpha / 2, 100)));
-        g2d.drawString(title, x + 3, y + 3);
+        if (qualityGovernor.getTier().hasTextEffects()) {
+            g2d.setColor(RenderResources.SOFT_RED.get(Math.min(alpha / 2, 100)));
+            g2d.drawString(title, x + 3, y + 3);
+        }
 
-        g2d.setColor(new Color(255, 255, 255, alpha));
+        g2d.setColor(RenderResources.WHITE.get(alpha));
         g2d.drawString(title, x, y);
     }
 
@@ -204,16 +220,16 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
         int y = 200;
 
         int alpha = (int) (scoreAlpha * 255);
-        g2d.setColor(new Color(255, 255, 100, alpha));
+        g2d.setColor(RenderResources.SOFT_YELLOW.get(alpha));
         g2d.drawString(scoreText, x, y);
 
         // Draw score rank
         String rank = getScoreRank(finalScore);
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setFont(rankFont);
         fm = g2d.getFontMetrics();
         x = (PANEL_WIDTH - fm.stringWidth(rank)) / 2;
         y = 230;
-        g2d.setColor(new Color(100, 255, 100, alpha));
+        g2d.setColor(RenderResources.SOFT_GREEN.get(alpha));
         g2d.drawString(rank, x, y);
     }
 
@@ -250,20 +266,20 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
             // Highlight selected option
             if (i == selectedIndex && animationComplete) {
                 // Draw selection background
-                g2d.setColor(new Color(0, 255, 255, (int)(alpha * 0.3f)));
+                g2d.setColor(RenderResources.CYAN.get((int)(alpha * 0.3f)));
                 g2d.fillRect(x - 20, y - fm.getAscent() - 5, fm.stringWidth(option) + 40, fm.getHeight() + 10);
 
                 // Draw selection border
-                g2d.setColor(new Color(0, 255, 255, alpha));
+                g2d.setColor(RenderResources.CYAN.get(alpha));
                 g2d.drawRect(x - 20, y - fm.getAscent() - 5, fm.stringWidth(option) + 40, fm.getHeight() + 10);
 
                 // Draw arrow indicators
                 g2d.drawString(">", x - 40, y);
                 g2d.drawString("<", x + fm.stringWidth(option) + 20, y);
 
-                g2d.setColor(new Color(255, 255, 255, alpha));
+                g2d.setColor(RenderResources.WHITE.get(alpha));
             } else {
-                g2d.setColor(new Color(200, 200, 200, alpha));
+                g2d.setColor(RenderResources.LIGHT_GRAY.get(alpha));
             }
 
             g2d.drawString(option, x, y);
@@ -297,9 +313,10 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
     public void actionPerformed(ActionEvent e) {
         animationFrame++;
 
-        // Update particle animations
-        for (Particle particle : particles) {
-            particle.update();
+        // Update particle animations; particles the quality tier hides are left idle
+        int visible = qualityGovernor.getTier().particles(particles.size());
+        for (int i = 0; i < visible; i++) {
+            particles.get(i).update();
         }
 
         // Control fade-in animation timing
@@ -373,7 +390,7 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
         private float x, y;
         private float velocityX, velocityY;
         private float size;
-        private Color color;
+        private AlphaRamp color;
         private float alpha;
         private float life;
         private float maxLife;
@@ -383,19 +400,19 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
         }
 
         public void reset() {
-            x = (float) (Math.random() * PANEL_WIDTH);
-            y = (float) (Math.random() * PANEL_HEIGHT);
-            velocityX = (float) (Math.random() * 2 - 1);
-            velocityY = (float) (Math.random() * 2 - 1);
-            size = (float) (Math.random() * 4 + 1);
-
-            // Random colors for particles
-            int r = (int) (Math.random() * 100 + 155);
-            int g = (int) (Math.random() * 100 + 155);
-            int b = (int) (Math.random() * 100 + 155);
-            color = new Color(r, g, b);
-
-            maxLife = (float) (Math.random() * 200 + 100);
+            x = (float) (effects.nextDouble() * PANEL_WIDTH);
+            y = (float) (effects.nextDouble() * PANEL_HEIGHT);
+            velocityX = (float) (effects.nextDouble() * 2 - 1);
+            velocityY = (float) (effects.nextDouble() * 2 - 1);
+            size = (float) (effects.nextDouble() * 4 + 1);
+
+            // Random pastel colors for particles, in steps so the interned ramps stay few
+            int r = 155 + 20 * effects.nextInt(5);
+            int g = 155 + 20 * effects.nextInt(5);
+            int b = 155 + 20 * effects.nextInt(5);
+            color = RenderResources.ramp(r, g, b);
+
+            maxLife = (float) (effects.nextDouble() * 200 + 100);
             life = maxLife;
             alpha = 1.0f;
         }
@@ -415,7 +432,7 @@ public class GameOverPanel extends JPanel implements KeyListener, ActionListener
         public void render(Graphics2D g2d) {
             int alphaValue = (int) (alpha * 100);
             if (alphaValue > 0) {
-                g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alphaValue));
+                g2d.setColor(color.get(alphaValue));
                 g2d.fillOval((int) x, (int) y, (int) size, (int) size);
             }
         }
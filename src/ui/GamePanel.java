@@ -1,33 +1,50 @@
 package ui;
 
-import entities.*;
-import managers.GameManager;
 import managers.SoundManager;
 import graphics.BackgroundStarField;
+import graphics.QualityGovernor;
+import engine.FrameProfiler;
+import engine.GameLoop;
+import engine.InputState;
+import engine.World;
+import replay.Replay;
+import replay.ReplayRecorder;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
-public class GamePanel extends JPanel implements ActionListener, KeyListener {
-    private static final int PANEL_WIDTH = 1000;
-    private static final int PANEL_HEIGHT = 600;
-    private static final int DELAY = 16; // ~60 FPS
-
-    private BackgroundStarField starField;
-    private Timer timer;
-    private Player player;
-    private List<Enemy> enemies;
-    private List<Bullet> bullets;
-    private List<EnemyBullet> enemyBullets;
-    private GameManager gameManager;
-    private HUD hud;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Gameplay screen: samples keyboard input, feeds it to the World and renders the result
+ */
+public class GamePanel extends JPanel implements GameLoop.Simulation, World.Listener, KeyListener, GameCanvas.Renderer {
+    private static final int PANEL_WIDTH = World.WIDTH;
+    private static final int PANEL_HEIGHT = World.HEIGHT;
+    private static final int TICK_RATE = GameLoop.DEFAULT_TICK_RATE; // Gameplay constants are tuned per 60 Hz tick
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final String REPLAY_DIRECTORY = "replays";
+    // Sessions are only recorded and saved when asked for, e.g. -Dreplay.record=true to reproduce a hitch
+    private static final boolean RECORD_REPLAYS = Boolean.getBoolean("replay.record");
+    private static final String PROFILE_DIRECTORY = "profiles";
+
+    private SceneRenderer sceneRenderer;
+    private long backgroundTicks = 0; // Drives the starfield scroll; stops while the loop is paused
+    private GameCanvas canvas;
+    private GameLoop gameLoop;
+    private double renderInterpolation = 0.0;
+    private World world;
+    private ReplayRecorder recorder;
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
+    private long frameWorkNanos = 0; // Simulation and paint time spent on the frame being built
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final PerformanceOverlay performanceOverlay = new PerformanceOverlay();
+    private InputState input;
     private SoundManager soundManager;
 
     // Input handling
@@ -46,8 +63,12 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
     public GamePanel() {
         this.setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
         this.setBackground(Color.BLACK);
-        this.setFocusable(true);
-        this.addKeyListener(this);
+        this.setLayout(new BorderLayout());
+
+        // Frames are drawn actively into the canvas, which also owns keyboard focus
+        canvas = new GameCanvas(this, PANEL_WIDTH, PANEL_HEIGHT);
+        canvas.addKeyListener(this);
+        this.add(canvas, BorderLayout.CENTER);
 
         // Initialize audio
         soundManager = SoundManager.getInstance();
@@ -56,16 +77,17 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
     }
 
     private void initializeGame() {
-        player = new Player(50, PANEL_HEIGHT / 2);
-        enemies = new ArrayList<>();
-        bullets = new ArrayList<>();
-        enemyBullets = new ArrayList<>();
-        gameManager = new GameManager(currentDisplayedLevel);
-        hud = new HUD();
+        world = new World();
+        world.setListener(this);
+        world.setProfiler(profiler);
+        world.startLevel(currentDisplayedLevel);
+        recorder = new ReplayRecorder(world);
+        input = new InputState();
 
-        starField = new BackgroundStarField(120);
+        sceneRenderer = new SceneRenderer(PANEL_WIDTH, PANEL_HEIGHT,
+                new BackgroundStarField(120, world.getRandom().effects()));
 
-        timer = new Timer(DELAY, this);
+        gameLoop = new GameLoop(this, TICK_RATE, MAX_CATCH_UP_STEPS);
     }
 
     public void setGameActionListener(GameActionListener listener) {
@@ -74,13 +96,10 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
 
     public void startGame() {
         // Reset game state
-        enemies.clear();
-        bullets.clear();
-        enemyBullets.clear();
-        gameManager = new GameManager(currentDisplayedLevel);
+        recorder.startLevel(currentDisplayedLevel);
         clearKeys();
 
-        timer.start();
+        gameLoop.start();
     }
 
     public void startGameAudio() {
@@ -92,47 +111,64 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
     }
 
     @Override
-    public void actionPerformed(ActionEvent e) {
-        update();
-        repaint();
+    public void render(double interpolation) {
+        renderInterpolation = interpolation;
+        long start = System.nanoTime();
+        if (canvas.renderFrame()) {
+            profiler.recordPaint(System.nanoTime() - start);
+            // Only simulation and drawing count towards quality; waiting on present or vsync does not
+            qualityGovernor.recordFrame(frameWorkNanos + canvas.getLastDrawNanos());
+        }
+        frameWorkNanos = 0;
+    }
+
+    /**
+     * Keyboard input goes to the canvas, so focus requests for the panel are passed on to it
+     */
+    @Override
+    public boolean requestFocusInWindow() {
+        return canvas.requestFocusInWindow();
     }
 
-    private void update() {
-        starField.update();
+    @Override
+    public void update() {
+        long start = System.nanoTime();
+        backgroundTicks++;
         handleInput();
-        player.update();
-        updateBullets();
-        updateEnemies();
-        updateEnemyBullets();
-        checkCollisions();
-        gameManager.update(enemies, PANEL_WIDTH, PANEL_HEIGHT);
+        profiler.add(FrameProfiler.INPUT, System.nanoTime() - start);
+        recorder.step(input);
+        frameWorkNanos += System.nanoTime() - start;
+    }
 
-        // Check for level transition
-        checkLevelTransition();
+    @Override
+    public void onPlayerShoot() {
+        soundManager.playSound(SoundManager.PLAYER_SHOOT);
+    }
 
-        removeOffScreenObjects();
+    @Override
+    public void onEnemyDestroyed(double x, double y) {
+        soundManager.playSound(SoundManager.ENEMY_EXPLOSION);
     }
 
     /**
-     * Check if player has advanced to a new level and trigger transition
+     * Player has advanced to a new level: trigger the transition screen
      */
-    private void checkLevelTransition() {
-        int currentLevel = gameManager.getLevel();
-        if (currentLevel > currentDisplayedLevel) {
-            currentDisplayedLevel = currentLevel;
+    @Override
+    public void onLevelAdvanced(int level) {
+        if (level > currentDisplayedLevel) {
+            currentDisplayedLevel = level;
 
             // Pause game temporarily for transition
-            timer.stop();
+            gameLoop.stop();
 
             if (gameActionListener != null) {
-                gameActionListener.onLevelTransition(currentLevel);
+                gameActionListener.onLevelTransition(level);
             }
 
-            // Resume game after a short delay
+            // Resume game after a short delay (the player is repositioned when the level starts)
             Timer resumeTimer = new Timer(3000, e -> {
-                player.resetState();
                 clearKeys();
-                timer.start();
+                gameLoop.start();
                 ((Timer) e.getSource()).stop();
             });
             resumeTimer.setRepeats(false);
@@ -140,26 +176,25 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
         }
     }
 
-    private void handleInput() {
-        if (keys[KeyEvent.VK_W] || keys[KeyEvent.VK_UP]) {
-            player.moveUp();
-        }
-        if (keys[KeyEvent.VK_S] || keys[KeyEvent.VK_DOWN]) {
-            player.moveDown();
-        }
-        if (keys[KeyEvent.VK_A] || keys[KeyEvent.VK_LEFT]) {
-            player.moveLeft();
-        }
-        if (keys[KeyEvent.VK_D] || keys[KeyEvent.VK_RIGHT]) {
-            player.moveRight();
-        }
-        if (keys[KeyEvent.VK_SPACE]) {
-            Bullet bullet = player.shoot();
-            if (bullet != null) {
-                bullets.add(bullet);
-                soundManager.playSound(SoundManager.PLAYER_SHOOT);
-            }
+    @Override
+    public void onGameOver(int finalScore) {
+        gameLoop.stop();
+        saveReplay();
+        if (gameActionListener != null) {
+            gameActionListener.onGameOver(finalScore);
         }
+    }
+
+    /**
+     * Translate held keys into the input state for this step and handle UI-only keys
+     */
+    private void handleInput() {
+        input.set(InputState.UP, keys[KeyEvent.VK_W] || keys[KeyEvent.VK_UP]);
+        input.set(InputState.DOWN, keys[KeyEvent.VK_S] || keys[KeyEvent.VK_DOWN]);
+        input.set(InputState.LEFT, keys[KeyEvent.VK_A] || keys[KeyEvent.VK_LEFT]);
+        input.set(InputState.RIGHT, keys[KeyEvent.VK_D] || keys[KeyEvent.VK_RIGHT]);
+        input.set(InputState.FIRE, keys[KeyEvent.VK_SPACE]);
+
         if (keys[KeyEvent.VK_M]) {
             soundManager.toggleMute();
             keys[KeyEvent.VK_M] = false; // Prevent continuous toggling
@@ -168,111 +203,37 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
             pauseGame();
             keys[KeyEvent.VK_ESCAPE] = false;
         }
-    }
-
-    private void updateBullets() {
-        Iterator<Bullet> bulletIterator = bullets.iterator();
-        while (bulletIterator.hasNext()) {
-            Bullet bullet = bulletIterator.next();
-            bullet.update();
-            if (bullet.getX() > PANEL_WIDTH) {
-                bulletIterator.remove();
-            }
-        }
-    }
-
-    private void updateEnemies() {
-        Iterator<Enemy> enemyIterator = enemies.iterator();
-        while (enemyIterator.hasNext()) {
-            Enemy enemy = enemyIterator.next();
-            enemy.update();
-
-            EnemyBullet enemyBullet = enemy.shoot();
-            if (enemyBullet != null) {
-                enemyBullets.add(enemyBullet);
-            }
-
-            if (enemy.getX() < -enemy.getWidth()) {
-                enemyIterator.remove();
-            }
+        if (keys[KeyEvent.VK_F3]) {
+            performanceOverlay.toggle();
+            keys[KeyEvent.VK_F3] = false;
         }
-    }
-
-    private void updateEnemyBullets() {
-        Iterator<EnemyBullet> bulletIterator = enemyBullets.iterator();
-        while (bulletIterator.hasNext()) {
-            EnemyBullet bullet = bulletIterator.next();
-            bullet.update();
-            if (bullet.getX() < 0) {
-                bulletIterator.remove();
-            }
+        if (keys[KeyEvent.VK_F4]) {
+            dumpProfile();
+            keys[KeyEvent.VK_F4] = false;
         }
     }
 
-    private void checkCollisions() {
-        // Player bullets vs enemies
-        Iterator<Bullet> bulletIterator = bullets.iterator();
-        while (bulletIterator.hasNext()) {
-            Bullet bullet = bulletIterator.next();
-            Iterator<Enemy> enemyIterator = enemies.iterator();
-            while (enemyIterator.hasNext()) {
-                Enemy enemy = enemyIterator.next();
-                if (bullet.collidesWith(enemy)) {
-                    bulletIterator.remove();
-                    enemyIterator.remove();
-                    gameManager.addScore(enemy.getScoreValue());
-                    soundManager.playSound(SoundManager.ENEMY_EXPLOSION);
-                    break;
-                }
-            }
-        }
-
-        // Enemy bullets vs player
-        Iterator<EnemyBullet> enemyBulletIterator = enemyBullets.iterator();
-        while (enemyBulletIterator.hasNext()) {
-            EnemyBullet bullet = enemyBulletIterator.next();
-            if (bullet.collidesWith(player)) {
-                enemyBulletIterator.remove();
-                player.takeDamage(bullet.getDamage()); // Use bullet's damage value
-                if (player.getHealth() <= 0) {
-                    gameOver();
-                }
-            }
-        }
-
-        for (Enemy enemy : enemies){
-            if (enemy.getX() < -50 && enemy == enemies.getLast()){
-                gameOver();
-            }
-        }
-
-        // Player vs enemies
-        for (Enemy enemy : enemies) {
-            if (player.collidesWith(enemy)) {
-                player.takeDamage(2);
-                if (player.getHealth() <= 0) {
-                    gameOver();
-                }
+    /**
+     * Write the timing histograms gathered since the game started to the profile directory
+     */
+    private void dumpProfile() {
+        Path path = Paths.get(PROFILE_DIRECTORY, "profile-" + System.currentTimeMillis() + ".txt");
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer out = Files.newBufferedWriter(path)) {
+                out.write("Ticks: " + world.getTick() + ", level: " + world.getGameManager().getLevel()
+                        + ", quality: " + qualityGovernor.getTier().getDisplayName() + System.lineSeparator());
+                profiler.writeReport(out);
             }
-        }
-    }
-
-    private void removeOffScreenObjects() {
-        bullets.removeIf(bullet -> bullet.getX() > PANEL_WIDTH);
-        enemyBullets.removeIf(bullet -> bullet.getX() < 0);
-        enemies.removeIf(enemy -> enemy.getX() < -enemy.getWidth());
-    }
-
-    private void gameOver() {
-        timer.stop();
-        if (gameActionListener != null) {
-            gameActionListener.onGameOver(gameManager.getScore());
+            System.out.println("Frame profile saved: " + path);
+        } catch (IOException e) {
+            System.err.println("Could not save frame profile " + path + ": " + e.getMessage());
         }
     }
 
     private void pauseGame() {
-        timer.stop();
-        soundManager.stopBackgroundMusic();
+        gameLoop.stop();
+        soundManager.pauseBackgroundMusic();
 
         int choice = JOptionPane.showConfirmDialog(this,
                 "Game Paused\nReturn to menu?",
@@ -280,53 +241,62 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
                 JOptionPane.YES_NO_OPTION);
 
         if (choice == JOptionPane.YES_OPTION && gameActionListener != null) {
+            saveReplay();
             gameActionListener.onReturnToMenu();
         } else {
-            timer.start();
-            soundManager.playBackgroundMusic();
+            gameLoop.start();
+            soundManager.resumeBackgroundMusic();
         }
     }
 
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-
-        starField.render((Graphics2D) g);
-        player.render(g);
-
-        for (Bullet bullet : bullets) {
-            bullet.render(g);
-        }
-
-        for (EnemyBullet bullet : enemyBullets) {
-            bullet.render(g);
-        }
-
-        for (Enemy enemy : enemies) {
-            enemy.render(g);
-        }
-
-        hud.render(g, gameManager.getScore(), gameManager.getLevel(), player.getHealth());
+    public void drawFrame(Graphics2D g2d) {
+        double alpha = renderInterpolation;
+        sceneRenderer.draw(g2d, world, alpha, (backgroundTicks + alpha) / TICK_RATE, canvas.getGraphicsConfiguration());
+        performanceOverlay.render(g2d, profiler, world, sceneRenderer.getRenderQueue(), qualityGovernor,
+                soundManager.getMixer(), soundManager.getSoundEvents());
     }
 
     private void clearKeys() {
         for (int i = 0; i < keys.length; i++) {
             keys[i] = false;
         }
+        input.clear();
+    }
+
+    /**
+     * Write the finished recording, if any, to the replay directory on a background thread
+     */
+    private void saveReplay() {
+        Replay replay = recorder.finish();
+        if (replay == null) return;
+        Path path = Paths.get(REPLAY_DIRECTORY, "replay-" + replay.getSeed() + ".rpl");
+        // The finished replay is no longer touched by the game, so it can be written from another thread
+        Thread writer = new Thread(() -> {
+            try {
+                replay.save(path);
+                System.out.println("Replay saved: " + path + " (" + replay + ")");
+            } catch (IOException e) {
+                System.err.println("Could not save replay " + path + ": " + e.getMessage());
+            }
+        }, "replay-writer");
+        writer.start();
     }
 
     public void resetAll(){
-        // Reset game state
-        enemies.clear();
-        bullets.clear();
-        enemyBullets.clear();
-        player.setHealthToMax();
-        player.resetState();
+        // Reset game state with a fresh seed, recording the new session if replays are enabled
         currentDisplayedLevel = 1;
-        gameManager = new GameManager(currentDisplayedLevel);
+        saveReplay();
+        long seed = System.nanoTime();
+        if (RECORD_REPLAYS) {
+            recorder.begin(seed);
+        } else {
+            world.reset(seed);
+        }
+        profiler.reset();
         clearKeys();
 
-        timer.start();
+        gameLoop.start();
     }
 
     @Override
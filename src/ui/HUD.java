@@ -1,14 +1,18 @@
 package ui;
 
+import graphics.RenderResources;
+
 import java.awt.*;
 
 public class HUD {
     private Font font;
     private Font instructionFont;
+    private Font progressFont;
 
     public HUD() {
-        this.font = new Font("Arial", Font.BOLD, 16);
-        this.instructionFont = new Font("Arial", Font.PLAIN, 12);
+        this.font = RenderResources.font(Font.BOLD, 16);
+        this.instructionFont = RenderResources.font(Font.PLAIN, 12);
+        this.progressFont = RenderResources.font(Font.PLAIN, 12);
     }
 
     public void render(Graphics g, int score, int level, int health) {
@@ -32,7 +36,7 @@ public class HUD {
 
         // Draw level progression info
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.PLAIN, 12));
+        g.setFont(progressFont);
         if (cycleLevel == 5) {
             g.drawString("Next: Tier " + (tier + 1) + " (Stronger bullets!)", 10, 100);
         } else {
@@ -1,6 +1,9 @@
 package ui;
 
 import managers.SoundManager;
+import graphics.AlphaRamp;
+import graphics.QualityGovernor;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -8,6 +11,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Level transition screen with animations and visual effects
@@ -16,6 +20,13 @@ import java.util.List;
 public class LevelTransitionPanel extends JPanel implements ActionListener {
     private static final int PANEL_WIDTH = 1000;
     private static final int PANEL_HEIGHT = 600;
+
+    // Visual effects only, so an unseeded stream is fine here
+    private final SplittableRandom effects = new SplittableRandom();
+
+    // Background gradient, cached per fade level
+    private final RenderResources.GradientRamp backgroundGradient = new RenderResources.GradientRamp(
+            0, 0, RenderResources.DEEP_BLUE, PANEL_WIDTH, PANEL_HEIGHT, RenderResources.NAVY);
     private static final int TRANSITION_DURATION = 3000; // 3 seconds
 
     // Animation variables
@@ -37,6 +48,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
 
     // Audio
     private SoundManager soundManager;
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
 
     // Transition callback
     private Runnable onTransitionComplete;
@@ -65,9 +77,9 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
      * Initialize fonts for different UI elements
      */
     private void initializeFonts() {
-        levelFont = new Font("Arial", Font.BOLD, 64);
-        messageFont = new Font("Arial", Font.BOLD, 24);
-        instructionFont = new Font("Arial", Font.PLAIN, 16);
+        levelFont = RenderResources.font(Font.BOLD, 64);
+        messageFont = RenderResources.font(Font.BOLD, 24);
+        instructionFont = RenderResources.font(Font.PLAIN, 16);
     }
 
     /**
@@ -130,8 +142,9 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        long start = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        qualityGovernor.applyHints(g2d);
 
         // Draw animated background
         drawBackground(g2d);
@@ -144,6 +157,8 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
 
         // Draw progress indicator
         drawProgressIndicator(g2d);
+
+        qualityGovernor.recordFrame(System.nanoTime() - start);
     }
 
     /**
@@ -153,11 +168,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         // Create gradient background
         int alpha = (int) (backgroundAlpha * 100);
         if (alpha > 0) {
-            GradientPaint gradient = new GradientPaint(
-                    0, 0, new Color(0, 50, 100, alpha),
-                    PANEL_WIDTH, PANEL_HEIGHT, new Color(0, 0, 50, alpha)
-            );
-            g2d.setPaint(gradient);
+            g2d.setPaint(backgroundGradient.get(alpha));
             g2d.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
         }
     }
@@ -166,8 +177,9 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
      * Draw animated stars
      */
     private void drawStars(Graphics2D g2d) {
-        for (TransitionStar star : stars) {
-            star.render(g2d);
+        int visible = qualityGovernor.getTier().particles(stars.size());
+        for (int i = 0; i < visible; i++) {
+            stars.get(i).render(g2d);
         }
     }
 
@@ -186,7 +198,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         int x = (PANEL_WIDTH - fm.stringWidth(levelText)) / 2;
         int y = 200;
 
-        g2d.setColor(new Color(255, 255, 255, alpha));
+        g2d.setColor(RenderResources.WHITE.get(alpha));
         g2d.drawString(levelText, x, y);
 
         // Draw level number with glow effect
@@ -201,11 +213,13 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         int glowAlpha = (int) (alpha * pulse * 0.5f);
 
         // Draw glow
-        g2d.setColor(new Color(0, 255, 255, glowAlpha));
-        g2d.drawString(numberText, x + 4, y + 4);
+        if (qualityGovernor.getTier().hasTextEffects()) {
+            g2d.setColor(RenderResources.CYAN.get(glowAlpha));
+            g2d.drawString(numberText, x + 4, y + 4);
+        }
 
         // Draw main number
-        g2d.setColor(new Color(255, 255, 255, alpha));
+        g2d.setColor(RenderResources.WHITE.get(alpha));
         g2d.drawString(numberText, x, y);
 
         // Draw motivational message
@@ -215,7 +229,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         x = (PANEL_WIDTH - fm.stringWidth(message)) / 2;
         y = 380;
 
-        g2d.setColor(new Color(255, 255, 100, alpha));
+        g2d.setColor(RenderResources.SOFT_YELLOW.get(alpha));
         g2d.drawString(message, x, y);
 
         // Draw preparation instruction
@@ -225,7 +239,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         x = (PANEL_WIDTH - fm.stringWidth(instruction)) / 2;
         y = 420;
 
-        g2d.setColor(new Color(200, 200, 200, alpha));
+        g2d.setColor(RenderResources.LIGHT_GRAY.get(alpha));
         g2d.drawString(instruction, x, y);
     }
 
@@ -257,7 +271,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         if (textAlpha <= 0) return;
 
         int alpha = (int) (textAlpha * 255);
-        g2d.setColor(new Color(255, 255, 255, alpha));
+        g2d.setColor(RenderResources.WHITE.get(alpha));
 
         // Draw loading bar
         int barWidth = 300;
@@ -266,7 +280,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         int barY = 500;
 
         // Background bar
-        g2d.setColor(new Color(100, 100, 100, alpha));
+        g2d.setColor(RenderResources.DIM_GRAY.get(alpha));
         g2d.fillRect(barX, barY, barWidth, barHeight);
 
         // Progress bar
@@ -274,7 +288,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         progress = Math.min(progress, 1.0f);
         int progressWidth = (int) (barWidth * progress);
 
-        g2d.setColor(new Color(0, 255, 255, alpha));
+        g2d.setColor(RenderResources.CYAN.get(alpha));
         g2d.fillRect(barX, barY, progressWidth, barHeight);
 
         // Progress text
@@ -284,7 +298,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         int textX = (PANEL_WIDTH - fm.stringWidth(progressText)) / 2;
         int textY = barY + barHeight + 20;
 
-        g2d.setColor(new Color(200, 200, 200, alpha));
+        g2d.setColor(RenderResources.LIGHT_GRAY.get(alpha));
         g2d.drawString(progressText, textX, textY);
     }
 
@@ -292,9 +306,10 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
     public void actionPerformed(ActionEvent e) {
         animationFrame++;
 
-        // Update stars
-        for (TransitionStar star : stars) {
-            star.update();
+        // Update stars; stars the quality tier hides are left idle
+        int visible = qualityGovernor.getTier().particles(stars.size());
+        for (int i = 0; i < visible; i++) {
+            stars.get(i).update();
         }
 
         // Control fade-in and fade-out timing
@@ -334,7 +349,7 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         private float x, y;
         private float velocityX, velocityY;
         private float size;
-        private Color color;
+        private AlphaRamp color;
         private float alpha;
         private float rotationSpeed;
         private float rotation;
@@ -344,18 +359,18 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         }
 
         public void reset() {
-            x = (float) (Math.random() * PANEL_WIDTH);
-            y = (float) (Math.random() * PANEL_HEIGHT);
-            velocityX = (float) (Math.random() * 4 - 2);
-            velocityY = (float) (Math.random() * 4 - 2);
-            size = (float) (Math.random() * 6 + 2);
-
-            // Bright colors for transition effect
-            int brightness = (int) (Math.random() * 100 + 155);
-            color = new Color(brightness, brightness, 255);
-
-            alpha = (float) Math.random();
-            rotationSpeed = (float) (Math.random() * 0.2 - 0.1);
+            x = (float) (effects.nextDouble() * PANEL_WIDTH);
+            y = (float) (effects.nextDouble() * PANEL_HEIGHT);
+            velocityX = (float) (effects.nextDouble() * 4 - 2);
+            velocityY = (float) (effects.nextDouble() * 4 - 2);
+            size = (float) (effects.nextDouble() * 6 + 2);
+
+            // Bright colors for transition effect, in steps so the interned ramps stay few
+            int brightness = 155 + 20 * effects.nextInt(5);
+            color = RenderResources.ramp(brightness, brightness, 255);
+
+            alpha = (float) effects.nextDouble();
+            rotationSpeed = (float) (effects.nextDouble() * 0.2 - 0.1);
             rotation = 0;
         }
 
@@ -378,21 +393,21 @@ public class LevelTransitionPanel extends JPanel implements ActionListener {
         public void render(Graphics2D g2d) {
             int alphaValue = (int) (alpha * 200);
             if (alphaValue > 0) {
-                g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alphaValue));
+                g2d.setColor(color.get(alphaValue));
 
-                // Draw star shape
-                Graphics2D g2dRotated = (Graphics2D) g2d.create();
-                g2dRotated.translate(x, y);
-                g2dRotated.rotate(rotation);
+                // Draw star shape, rotating the shared context and undoing it instead of copying it
+                g2d.translate(x, y);
+                g2d.rotate(rotation);
 
                 // Simple star shape using lines
                 int halfSize = (int) (size / 2);
-                g2dRotated.drawLine(-halfSize, 0, halfSize, 0);
-                g2dRotated.drawLine(0, -halfSize, 0, halfSize);
-                g2dRotated.drawLine(-halfSize/2, -halfSize/2, halfSize/2, halfSize/2);
-                g2dRotated.drawLine(-halfSize/2, halfSize/2, halfSize/2, -halfSize/2);
+                g2d.drawLine(-halfSize, 0, halfSize, 0);
+                g2d.drawLine(0, -halfSize, 0, halfSize);
+                g2d.drawLine(-halfSize/2, -halfSize/2, halfSize/2, halfSize/2);
+                g2d.drawLine(-halfSize/2, halfSize/2, halfSize/2, -halfSize/2);
 
-                g2dRotated.dispose();
+                g2d.rotate(-rotation);
+                g2d.translate(-x, -y);
             }
         }
     }
@@ -0,0 +1,73 @@
+package ui;
+
+import graphics.RenderResources;
+import managers.AssetLoader;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Startup screen shown while the AssetLoader decodes sounds and sprites
+ * Deliberately plain (title, progress bar and the last asset loaded) so painting it takes
+ * almost nothing away from the loader threads.
+ */
+public class LoadingPanel extends JPanel {
+    private static final int PANEL_WIDTH = 1000;
+    private static final int PANEL_HEIGHT = 600;
+    private static final int BAR_WIDTH = 400;
+    private static final int BAR_HEIGHT = 12;
+    private static final int REFRESH_MILLIS = 33;
+
+    private final AssetLoader loader;
+    private final Timer refreshTimer;
+    private final Font titleFont = RenderResources.font(Font.BOLD, 48);
+    private final Font statusFont = RenderResources.font(Font.PLAIN, 14);
+
+    public LoadingPanel(AssetLoader loader) {
+        this.loader = loader;
+        setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
+        setBackground(Color.BLACK);
+
+        refreshTimer = new Timer(REFRESH_MILLIS, e -> repaint());
+    }
+
+    public void start() {
+        refreshTimer.start();
+    }
+
+    public void stop() {
+        refreshTimer.stop();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        String title = "Earth Counter 99";
+        g2d.setFont(titleFont);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.setColor(Color.CYAN);
+        g2d.drawString(title, (PANEL_WIDTH - fm.stringWidth(title)) / 2, 240);
+
+        // Progress bar
+        int barX = (PANEL_WIDTH - BAR_WIDTH) / 2;
+        int barY = 300;
+        g2d.setColor(RenderResources.CYAN.get(50));
+        g2d.fillRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        g2d.setColor(Color.CYAN);
+        g2d.fillRect(barX, barY, (int) (BAR_WIDTH * loader.getProgress()), BAR_HEIGHT);
+        g2d.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+
+        String status = "Loading " + loader.getLoadedCount() + "/" + loader.getTotalCount();
+        String last = loader.getLastLoaded();
+        if (!last.isEmpty()) {
+            status += "  (" + last + ")";
+        }
+        g2d.setFont(statusFont);
+        fm = g2d.getFontMetrics();
+        g2d.setColor(RenderResources.LIGHT_GRAY.get(255));
+        g2d.drawString(status, (PANEL_WIDTH - fm.stringWidth(status)) / 2, barY + BAR_HEIGHT + 30);
+    }
+}
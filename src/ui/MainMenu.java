@@ -1,6 +1,9 @@
 package ui;
 
 import managers.SoundManager;
+import graphics.BackgroundStarField;
+import graphics.QualityGovernor;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,6 +13,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Main menu screen with keyboard navigation and audio feedback
@@ -19,6 +23,9 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
     private static final int PANEL_WIDTH = 1000;
     private static final int PANEL_HEIGHT = 600;
 
+    // Visual effects only, so an unseeded stream is fine here
+    private final SplittableRandom effects = new SplittableRandom();
+
     // Menu options
     private List<String> menuOptions;
     private int selectedIndex = 0;
@@ -30,11 +37,13 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
 
     // Animation variables
     private Timer animationTimer;
-    private List<Star> backgroundStars;
+    private BackgroundStarField starField;
+    private final long animationStart = System.nanoTime();
     private int titleGlowPhase = 0;
 
     // Audio manager
     private SoundManager soundManager;
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
 
     // Menu action listener
     private MenuActionListener menuActionListener;
@@ -66,9 +75,9 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
      * Initialize fonts for different UI elements
      */
     private void initializeFonts() {
-        titleFont = new Font("Arial", Font.BOLD, 48);
-        menuFont = new Font("Arial", Font.BOLD, 24);
-        instructionFont = new Font("Arial", Font.PLAIN, 14);
+        titleFont = RenderResources.font(Font.BOLD, 48);
+        menuFont = RenderResources.font(Font.BOLD, 24);
+        instructionFont = RenderResources.font(Font.PLAIN, 14);
     }
 
     /**
@@ -85,10 +94,8 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
      * Initialize animated background stars
      */
     private void initializeBackground() {
-        backgroundStars = new ArrayList<>();
-        for (int i = 0; i < 150; i++) {
-            backgroundStars.add(new Star());
-        }
+        // 1 to 4 pixels per 50 ms animation step
+        starField = new BackgroundStarField(150, BackgroundStarField.DEFAULT_LAYERS, 20f, 80f, 127, effects);
     }
 
     /**
@@ -109,8 +116,9 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        long start = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        qualityGovernor.applyHints(g2d);
 
         // Draw animated background
         drawBackground(g2d);
@@ -126,15 +134,15 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
 
         // Draw audio status
         drawAudioStatus(g2d);
+
+        qualityGovernor.recordFrame(System.nanoTime() - start);
     }
 
     /**
      * Draw animated starfield background
      */
     private void drawBackground(Graphics2D g2d) {
-        for (Star star : backgroundStars) {
-            star.render(g2d);
-        }
+        starField.render(g2d, (System.nanoTime() - animationStart) / 1e9);
     }
 
     /**
@@ -149,9 +157,11 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
         int y = 120;
 
         // Create glow effect
-        int glowIntensity = (int) (50 + 30 * Math.sin(titleGlowPhase * 0.1));
-        g2d.setColor(new Color(0, 255, 255, glowIntensity));
-        g2d.drawString(title, x + 3, y + 3);
+        if (qualityGovernor.getTier().hasTextEffects()) {
+            int glowIntensity = (int) (50 + 30 * Math.sin(titleGlowPhase * 0.1));
+            g2d.setColor(RenderResources.CYAN.get(glowIntensity));
+            g2d.drawString(title, x + 3, y + 3);
+        }
 
         // Draw main title
         g2d.setColor(Color.CYAN);
@@ -176,7 +186,7 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
             // Highlight selected option
             if (i == selectedIndex) {
                 // Draw selection background
-                g2d.setColor(new Color(0, 255, 255, 50));
+                g2d.setColor(RenderResources.CYAN.get(50));
                 g2d.fillRect(x - 20, y - fm.getAscent() - 5, fm.stringWidth(option) + 40, fm.getHeight() + 10);
 
                 // Draw selection border
@@ -308,11 +318,6 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
         // Update animation
         titleGlowPhase++;
 
-        // Update background stars
-        for (Star star : backgroundStars) {
-            star.update();
-        }
-
         repaint();
     }
 
@@ -330,41 +335,4 @@ public class MainMenu extends JPanel implements KeyListener, ActionListener {
 
     @Override
     public void keyReleased(KeyEvent e) {}
-
-    /**
-     * Inner class for animated background stars
-     */
-    private class Star {
-        private float x, y;
-        private float speed;
-        private int size;
-        private Color color;
-
-        public Star() {
-            reset();
-        }
-
-        private void reset() {
-            x = (float) (Math.random() * PANEL_WIDTH);
-            y = (float) (Math.random() * PANEL_HEIGHT);
-            speed = (float) (Math.random() * 3 + 1);
-            size = (int) (Math.random() * 3 + 1);
-
-            int brightness = (int) (Math.random() * 128 + 127);
-            color = new Color(brightness, brightness, brightness);
-        }
-
-        public void update() {
-            x -= speed;
-            if (x < -size) {
-                x = PANEL_WIDTH + size;
-                y = (float) (Math.random() * PANEL_HEIGHT);
-            }
-        }
-
-        public void render(Graphics2D g2d) {
-            g2d.setColor(color);
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
 }
@@ -2,6 +2,9 @@ package ui;
 
 import managers.SoundManager;
 import enums.GameState;
+import graphics.BackgroundStarField;
+import graphics.QualityGovernor;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -9,6 +12,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Main menu panel with animated background and sound effects
@@ -18,13 +22,19 @@ public class MenuPanel extends JPanel {
     private static final int PANEL_WIDTH = 1000;
     private static final int PANEL_HEIGHT = 600;
 
+    // Visual effects only, so an unseeded stream is fine here
+    private final SplittableRandom effects = new SplittableRandom();
+
     private List<MenuButton> buttons;
     private SoundManager soundManager;
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
     private GameStateListener gameStateListener;
     private Timer animationTimer;
-    private List<Star> stars;
+    private BackgroundStarField starField;
+    private final long animationStart = System.nanoTime();
     private Font titleFont;
     private Font buttonFont;
+    private Font versionFont;
 
     // Interface for communicating with main frame
     public interface GameStateListener {
@@ -46,15 +56,14 @@ public class MenuPanel extends JPanel {
     }
 
     private void initializeFonts() {
-        titleFont = new Font("Arial", Font.BOLD, 48);
-        buttonFont = new Font("Arial", Font.BOLD, 20);
+        titleFont = RenderResources.font(Font.BOLD, 48);
+        buttonFont = RenderResources.font(Font.BOLD, 20);
+        versionFont = RenderResources.font(Font.PLAIN, 12);
     }
 
     private void initializeStars() {
-        stars = new ArrayList<>();
-        for (int i = 0; i < 100; i++) {
-            stars.add(new Star());
-        }
+        // 0.5 to 2.5 pixels per 50 ms animation step
+        starField = new BackgroundStarField(100, BackgroundStarField.DEFAULT_LAYERS, 10f, 50f, 100, effects);
     }
 
     private void initializeButtons() {
@@ -91,24 +100,16 @@ public class MenuPanel extends JPanel {
     }
 
     private void startAnimation() {
-        animationTimer = new Timer(50, e -> {
-            updateStars();
-            repaint();
-        });
+        animationTimer = new Timer(50, e -> repaint());
         animationTimer.start();
     }
 
-    private void updateStars() {
-        for (Star star : stars) {
-            star.update();
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        long start = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        qualityGovernor.applyHints(g2d);
 
         // Draw animated starfield
         drawStarfield(g2d);
@@ -118,12 +119,12 @@ public class MenuPanel extends JPanel {
 
         // Draw version info
         drawVersionInfo(g2d);
+
+        qualityGovernor.recordFrame(System.nanoTime() - start);
     }
 
     private void drawStarfield(Graphics2D g2d) {
-        for (Star star : stars) {
-            star.render(g2d);
-        }
+        starField.render(g2d, (System.nanoTime() - animationStart) / 1e9);
     }
 
     private void drawTitle(Graphics2D g2d) {
@@ -136,14 +137,16 @@ public class MenuPanel extends JPanel {
         int y = 150;
 
         // Draw title with glow effect
-        g2d.setColor(new Color(0, 255, 255, 100));
-        g2d.drawString(title, x + 2, y + 2);
+        if (qualityGovernor.getTier().hasTextEffects()) {
+            g2d.setColor(RenderResources.CYAN.get(100));
+            g2d.drawString(title, x + 2, y + 2);
+        }
         g2d.setColor(Color.CYAN);
         g2d.drawString(title, x, y);
     }
 
     private void drawVersionInfo(Graphics2D g2d) {
-        g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+        g2d.setFont(versionFont);
         g2d.setColor(Color.GRAY);
         g2d.drawString("Version 1.0 - Enhanced Edition", 10, PANEL_HEIGHT - 10);
 
@@ -168,7 +171,7 @@ public class MenuPanel extends JPanel {
             setBounds(x, y, width, height);
             setFont(buttonFont);
             setForeground(Color.WHITE);
-            setBackground(new Color(0, 0, 0, 0));
+            setBackground(RenderResources.ramp(0, 0, 0).get(0));
             setBorder(BorderFactory.createLineBorder(Color.CYAN, 2));
             setFocusPainted(false);
             setContentAreaFilled(false);
@@ -192,10 +195,10 @@ public class MenuPanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            qualityGovernor.applyHints(g2d);
 
             if (hovered) {
-                g2d.setColor(new Color(0, 255, 255, 50));
+                g2d.setColor(RenderResources.CYAN.get(50));
                 g2d.fillRect(0, 0, getWidth(), getHeight());
                 g2d.setColor(Color.CYAN);
             } else {
@@ -211,39 +214,4 @@ public class MenuPanel extends JPanel {
             g2d.drawString(getText(), x, y);
         }
     }
-
-    // Inner class for animated stars
-    private class Star {
-        private float x, y;
-        private float speed;
-        private int size;
-        private Color color;
-
-        public Star() {
-            reset();
-        }
-
-        private void reset() {
-            x = (float) (Math.random() * PANEL_WIDTH);
-            y = (float) (Math.random() * PANEL_HEIGHT);
-            speed = (float) (Math.random() * 2 + 0.5);
-            size = (int) (Math.random() * 3 + 1);
-
-            int brightness = (int) (Math.random() * 155 + 100);
-            color = new Color(brightness, brightness, brightness);
-        }
-
-        public void update() {
-            x -= speed;
-            if (x < -size) {
-                x = PANEL_WIDTH + size;
-                y = (float) (Math.random() * PANEL_HEIGHT);
-            }
-        }
-
-        public void render(Graphics2D g2d) {
-            g2d.setColor(color);
-            g2d.fillOval((int) x, (int) y, size, size);
-        }
-    }
 }
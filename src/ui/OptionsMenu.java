@@ -1,6 +1,9 @@
 package ui;
 
 import managers.SoundManager;
+import enums.QualityTier;
+import graphics.QualityGovernor;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,12 +18,14 @@ public class OptionsMenu extends JPanel implements KeyListener {
     private static final int PANEL_HEIGHT = 600;
 
     private SoundManager soundManager;
+    private QualityGovernor qualityGovernor;
     private OptionsActionListener optionsActionListener;
     private int selectedIndex = 0;
-    private final int MAX_OPTIONS = 3;
+    private final int MAX_OPTIONS = 4;
 
     private Font titleFont;
     private Font optionFont;
+    private Font instructionFont;
 
     public interface OptionsActionListener {
         void onBackToMenu();
@@ -33,9 +38,11 @@ public class OptionsMenu extends JPanel implements KeyListener {
         addKeyListener(this);
 
         soundManager = SoundManager.getInstance();
+        qualityGovernor = QualityGovernor.getInstance();
 
-        titleFont = new Font("Arial", Font.BOLD, 36);
-        optionFont = new Font("Arial", Font.BOLD, 20);
+        titleFont = RenderResources.font(Font.BOLD, 36);
+        optionFont = RenderResources.font(Font.BOLD, 20);
+        instructionFont = RenderResources.font(Font.PLAIN, 14);
     }
 
     public void setOptionsActionListener(OptionsActionListener listener) {
@@ -46,7 +53,7 @@ public class OptionsMenu extends JPanel implements KeyListener {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        qualityGovernor.applyHints(g2d);
 
         // Draw title
         g2d.setFont(titleFont);
@@ -58,8 +65,8 @@ public class OptionsMenu extends JPanel implements KeyListener {
 
         // Draw options
         g2d.setFont(optionFont);
-        int startY = 200;
-        int spacing = 80;
+        int startY = 180;
+        int spacing = 70;
 
         // Volume control
         drawOption(g2d, "MASTER VOLUME: " + (int)(soundManager.getMasterVolume() * 100) + "%",
@@ -69,16 +76,20 @@ public class OptionsMenu extends JPanel implements KeyListener {
         drawOption(g2d, "MUTE: " + (soundManager.isMuted() ? "ON" : "OFF"),
                 0, startY + spacing, selectedIndex == 1);
 
+        // Quality tier: automatic or pinned
+        drawOption(g2d, "QUALITY: " + qualityLabel(),
+                0, startY + spacing * 2, selectedIndex == 2);
+
         // Back option
         drawOption(g2d, "BACK TO MENU",
-                0, startY + spacing * 2, selectedIndex == 2);
+                0, startY + spacing * 3, selectedIndex == 3);
 
         // Instructions
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(instructionFont);
         g2d.setColor(Color.GRAY);
         String[] instructions = {
                 "UP/DOWN: Navigate options",
-                "LEFT/RIGHT: Adjust volume",
+                "LEFT/RIGHT: Adjust volume or quality",
                 "ENTER: Toggle/Select",
                 "ESC: Back to menu"
         };
@@ -98,7 +109,7 @@ public class OptionsMenu extends JPanel implements KeyListener {
 
         if (selected) {
             // Draw selection background
-            g2d.setColor(new Color(0, 255, 255, 50));
+            g2d.setColor(RenderResources.CYAN.get(50));
             g2d.fillRect(textX - 20, y - fm.getAscent() - 5, fm.stringWidth(text) + 40, fm.getHeight() + 10);
 
             // Draw selection border
@@ -127,11 +138,15 @@ public class OptionsMenu extends JPanel implements KeyListener {
             case KeyEvent.VK_LEFT:
                 if (selectedIndex == 0) { // Volume control
                     adjustVolume(-0.1f);
+                } else if (selectedIndex == 2) { // Quality
+                    cycleQuality(-1);
                 }
                 break;
             case KeyEvent.VK_RIGHT:
                 if (selectedIndex == 0) { // Volume control
                     adjustVolume(0.1f);
+                } else if (selectedIndex == 2) { // Quality
+                    cycleQuality(1);
                 }
                 break;
             case KeyEvent.VK_ENTER:
@@ -153,6 +168,26 @@ public class OptionsMenu extends JPanel implements KeyListener {
         soundManager.playSound(SoundManager.MENU_HOVER);
     }
 
+    /**
+     * Step through AUTO followed by each tier from best to cheapest
+     */
+    private void cycleQuality(int direction) {
+        QualityTier[] tiers = QualityTier.values();
+        QualityTier pinned = qualityGovernor.getPinnedTier();
+        int position = pinned == null ? 0 : pinned.ordinal() + 1; // 0 is AUTO
+        position = (position + direction + tiers.length + 1) % (tiers.length + 1);
+        qualityGovernor.setPinnedTier(position == 0 ? null : tiers[position - 1]);
+        soundManager.playSound(SoundManager.MENU_HOVER);
+    }
+
+    private String qualityLabel() {
+        QualityTier pinned = qualityGovernor.getPinnedTier();
+        if (pinned == null) {
+            return "AUTO (" + qualityGovernor.getAutoTier().getDisplayName().toUpperCase() + ")";
+        }
+        return pinned.getDisplayName().toUpperCase();
+    }
+
     private void handleSelection() {
         soundManager.playSound(SoundManager.MENU_SELECT);
 
@@ -162,7 +197,10 @@ public class OptionsMenu extends JPanel implements KeyListener {
             case 1: // Mute toggle
                 soundManager.toggleMute();
                 break;
-            case 2: // Back to menu
+            case 2: // Quality - cycles forward, left/right also work
+                cycleQuality(1);
+                break;
+            case 3: // Back to menu
                 if (optionsActionListener != null) {
                     optionsActionListener.onBackToMenu();
                 }
@@ -0,0 +1,116 @@
+package ui;
+
+import engine.FrameProfiler;
+import engine.Histogram;
+import engine.World;
+import graphics.QualityGovernor;
+import graphics.RenderQueue;
+import graphics.RenderResources;
+import managers.AudioCommandQueue;
+import managers.AudioMixer;
+import managers.SoundEventAggregator;
+import managers.SoundManager;
+
+import java.awt.*;
+
+/**
+ * Debug overlay listing per-phase frame timings, entity counts, collision work, GC and audio activity
+ * The text is rebuilt a few times per second rather than every frame, so the overlay itself
+ * barely shows up in the numbers it reports.
+ */
+public class PerformanceOverlay {
+    private static final int REFRESH_FRAMES = 15;
+    private static final int LINE_HEIGHT = 14;
+    private static final int X = 640;
+    private static final int Y = 10;
+    private static final int WIDTH = 350;
+
+    private final Font font = RenderResources.font(Font.MONOSPACED, Font.PLAIN, 12);
+    private final Color background = RenderResources.ramp(0, 0, 0).get(170);
+    private final String[] lines = new String[FrameProfiler.PHASE_COUNT + 10];
+    private int lineCount = 0;
+
+    private boolean visible = false;
+    private int framesUntilRefresh = 0;
+
+    // Garbage collection rate between refreshes
+    private long lastGcCount = -1;
+    private long lastGcMillis;
+    private long lastGcSampleNanos;
+    private String gcRate = "";
+
+    public void toggle() {
+        visible = !visible;
+        framesUntilRefresh = 0;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void render(Graphics2D g2d, FrameProfiler profiler, World world, RenderQueue renderQueue,
+                       QualityGovernor governor, AudioMixer mixer, SoundEventAggregator soundEvents) {
+        if (!visible) return;
+
+        if (--framesUntilRefresh <= 0) {
+            refresh(profiler, world, renderQueue, governor, mixer, soundEvents);
+            framesUntilRefresh = REFRESH_FRAMES;
+        }
+
+        g2d.setColor(background);
+        g2d.fillRect(X, Y, WIDTH, lineCount * LINE_HEIGHT + 8);
+        g2d.setFont(font);
+        g2d.setColor(Color.WHITE);
+        for (int i = 0; i < lineCount; i++) {
+            g2d.drawString(lines[i], X + 6, Y + (i + 1) * LINE_HEIGHT);
+        }
+    }
+
+    private void refresh(FrameProfiler profiler, World world, RenderQueue renderQueue, QualityGovernor governor,
+                         AudioMixer mixer, SoundEventAggregator soundEvents) {
+        lineCount = 0;
+        lines[lineCount++] = "FRAME PROFILE (F3 hide, F4 dump)";
+        lines[lineCount++] = String.format("%-12s %8s %8s %8s", "phase us", "p50", "p99", "max");
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            Histogram h = profiler.getPhase(phase);
+            lines[lineCount++] = String.format("%-12s %8.1f %8.1f %8.1f", FrameProfiler.getPhaseName(phase),
+                    h.percentile(0.50) / 1000.0, h.percentile(0.99) / 1000.0, h.getMax() / 1000.0);
+        }
+
+        lines[lineCount++] = "enemies " + world.getEnemies().size() + "  projectiles " + world.getProjectiles().size();
+        Histogram pairs = profiler.getPairsPerTick();
+        lines[lineCount++] = "pairs/tick p50 " + pairs.percentile(0.50) + "  p99 " + pairs.percentile(0.99)
+                + "  max " + pairs.getMax();
+        lines[lineCount++] = "draws " + renderQueue.getLastSubmitted() + "  culled " + renderQueue.getLastCulled()
+                + "  state changes " + renderQueue.getLastStateChanges();
+
+        long gcCount = profiler.getTotalGcCount();
+        long gcMillis = profiler.getTotalGcMillis();
+        long now = System.nanoTime();
+        if (lastGcCount >= 0 && now > lastGcSampleNanos) {
+            double seconds = (now - lastGcSampleNanos) / 1_000_000_000.0;
+            gcRate = String.format("  (%.1f/s, %.0f ms/s)", (gcCount - lastGcCount) / seconds,
+                    (gcMillis - lastGcMillis) / seconds);
+        }
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastGcSampleNanos = now;
+        lines[lineCount++] = "gc " + profiler.getGcCountSinceReset() + " runs, "
+                + profiler.getGcMillisSinceReset() + " ms" + gcRate;
+
+        lines[lineCount++] = String.format("quality %s%s  avg frame %.2f ms", governor.getTier().getDisplayName(),
+                governor.getPinnedTier() != null ? " (pinned)" : "", governor.getAverageFrameNanos() / 1_000_000.0);
+        lines[lineCount++] = String.format("tier changes: %d down, %d up, last at %.2f ms", governor.getDowngrades(),
+                governor.getUpgrades(), governor.getLastChangeAverageNanos() / 1_000_000.0);
+
+        AudioCommandQueue commands = mixer.getCommandQueue();
+        lines[lineCount++] = String.format("voices %d/%d  stolen %d  dropped %d+%d  post p99 %d ns",
+                mixer.getActiveVoices(), mixer.getVoiceCount(), mixer.getStolenCount(), mixer.getDroppedCount(),
+                commands.getDroppedCount(), commands.getEnqueueNanos().percentile(0.99));
+        lines[lineCount++] = String.format("sfx suppressed: shoot %d/%d  explosion %d/%d",
+                soundEvents.getSuppressedCount(SoundManager.PLAYER_SHOOT),
+                soundEvents.getRequestedCount(SoundManager.PLAYER_SHOOT),
+                soundEvents.getSuppressedCount(SoundManager.ENEMY_EXPLOSION),
+                soundEvents.getRequestedCount(SoundManager.ENEMY_EXPLOSION));
+    }
+}
@@ -0,0 +1,93 @@
+package ui;
+
+import ecs.RenderSystem;
+import engine.World;
+import entities.Enemy;
+import entities.Player;
+import graphics.BackgroundStarField;
+import graphics.ProjectileStamps;
+import graphics.QualityGovernor;
+import graphics.RenderQueue;
+import graphics.SpriteAtlas;
+
+import java.awt.*;
+
+/**
+ * Draws one complete gameplay frame of a World: starfield, ships, projectiles, labels and HUD
+ * Holds the cached atlas and bullet stamps for the target screen. It has no Swing or audio
+ * dependencies, so it can render into any Graphics2D, including a BufferedImage when headless.
+ */
+public class SceneRenderer {
+    private final BackgroundStarField starField;
+    private final RenderSystem renderSystem = new RenderSystem();
+    private final RenderQueue renderQueue;
+    private final HUD hud = new HUD();
+    private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
+
+    private SpriteAtlas atlas;
+    private ProjectileStamps projectileStamps;
+
+    public SceneRenderer(int width, int height, BackgroundStarField starField) {
+        this.starField = starField;
+        this.renderQueue = new RenderQueue(width, height);
+    }
+
+    /**
+     * Draw the world's current state
+     * @param interpolation fraction of a tick since the last step, for smooth motion
+     * @param backgroundSeconds time driving the starfield scroll
+     * @param configuration screen the frame is for, or null when headless
+     */
+    public void draw(Graphics2D g2d, World world, double interpolation, double backgroundSeconds,
+                     GraphicsConfiguration configuration) {
+        Player player = world.getPlayer();
+        SpriteAtlas atlas = getAtlas(configuration, player);
+        ProjectileStamps stamps = getProjectileStamps(configuration);
+
+        // The starfield covers the whole frame, so it also clears the back buffer
+        starField.render(g2d, backgroundSeconds);
+
+        double playerX = player.getInterpolatedX(interpolation);
+        double playerY = player.getInterpolatedY(interpolation);
+
+        // Queue the whole scene, then draw it sorted by layer and material in one pass
+        renderQueue.begin(atlas, stamps);
+        renderQueue.add(RenderQueue.atlasSprite(atlas.getPlayerRegion()), playerX, playerY,
+                RenderQueue.LAYER_SHIPS, RenderQueue.OPAQUE);
+        ProjectileStamps.submitAll(renderQueue, world.getProjectiles(), interpolation);
+        renderSystem.submit(renderQueue, world.getEnemies(), interpolation, atlas);
+        renderQueue.flush(g2d);
+
+        player.drawHealthBar(g2d, playerX, playerY);
+
+        qualityGovernor.applyHints(g2d);
+        hud.render(g2d, world.getGameManager().getScore(), world.getGameManager().getLevel(), player.getHealth());
+    }
+
+    /**
+     * Atlas for the given screen, rebuilt if the frame moves to another screen
+     */
+    private SpriteAtlas getAtlas(GraphicsConfiguration configuration, Player player) {
+        if (atlas == null || !atlas.isCompatibleWith(configuration)) {
+            atlas = SpriteAtlas.build(configuration, player.getSprite(), Enemy.getSprite(),
+                    (int) player.getWidth(), (int) player.getHeight());
+        }
+        return atlas;
+    }
+
+    /**
+     * Bullet stamps for the given screen, rebuilt if the frame moves to another screen
+     * or the quality tier turns trails on or off
+     */
+    private ProjectileStamps getProjectileStamps(GraphicsConfiguration configuration) {
+        boolean trails = qualityGovernor.getTier().hasTrails();
+        if (projectileStamps == null || !projectileStamps.isCompatibleWith(configuration, trails)) {
+            projectileStamps = ProjectileStamps.build(configuration, trails);
+        }
+        return projectileStamps;
+    }
+
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+}
@@ -2,6 +2,7 @@ package ui;
 
 import managers.SoundManager;
 import enums.GameState;
+import graphics.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -37,7 +38,7 @@ public class SettingsPanel extends JPanel {
 
         // Title
         JLabel titleLabel = new JLabel("SETTINGS");
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 36));
+        titleLabel.setFont(RenderResources.font(Font.BOLD, 36));
         titleLabel.setForeground(Color.CYAN);
         gbc.gridx = 0;
         gbc.gridy = 0;
@@ -46,7 +47,7 @@ public class SettingsPanel extends JPanel {
 
         // Volume control
         JLabel volumeLabel = new JLabel("Master Volume:");
-        volumeLabel.setFont(new Font("Arial", Font.BOLD, 18));
+        volumeLabel.setFont(RenderResources.font(Font.BOLD, 18));
         volumeLabel.setForeground(Color.WHITE);
         gbc.gridx = 0;
         gbc.gridy = 1;
@@ -66,7 +67,7 @@ public class SettingsPanel extends JPanel {
 
         // Mute checkbox
         muteCheckBox = new JCheckBox("Mute All Sounds", soundManager.isMuted());
-        muteCheckBox.setFont(new Font("Arial", Font.BOLD, 18));
+        muteCheckBox.setFont(RenderResources.font(Font.BOLD, 18));
         muteCheckBox.setForeground(Color.WHITE);
         muteCheckBox.setBackground(Color.BLACK);
         muteCheckBox.addActionListener(e -> soundManager.toggleMute());
@@ -77,7 +78,7 @@ public class SettingsPanel extends JPanel {
 
         // Back button
         JButton backButton = new JButton("BACK TO MENU");
-        backButton.setFont(new Font("Arial", Font.BOLD, 16));
+        backButton.setFont(RenderResources.font(Font.BOLD, 16));
         backButton.setForeground(Color.WHITE);
         backButton.setBackground(Color.DARK_GRAY);
         backButton.addActionListener(e -> {